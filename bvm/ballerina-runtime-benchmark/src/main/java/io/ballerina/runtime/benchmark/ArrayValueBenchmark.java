@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for appending to and reading from {@link ArrayValueImpl}.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayValueBenchmark {
+
+    @Param({"16", "1024"})
+    public int size;
+
+    private ArrayType intArrayType;
+    private ArrayType stringArrayType;
+    private ArrayValueImpl intArray;
+    private ArrayValueImpl stringArray;
+    private BString[] strings;
+
+    @Setup
+    public void setup() {
+        intArrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        stringArrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING);
+        strings = new BString[size];
+        for (int i = 0; i < size; i++) {
+            strings[i] = StringUtils.fromString("value" + i);
+        }
+        intArray = appendInts();
+        stringArray = appendStrings();
+    }
+
+    @Benchmark
+    public ArrayValueImpl appendInts() {
+        ArrayValueImpl array = new ArrayValueImpl(intArrayType);
+        for (int i = 0; i < size; i++) {
+            array.add(i, (long) i);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public ArrayValueImpl appendStrings() {
+        ArrayValueImpl array = new ArrayValueImpl(stringArrayType);
+        for (int i = 0; i < size; i++) {
+            array.add(i, strings[i]);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public long readInts() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += intArray.getInt(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void readBoxedInts(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(intArray.get(i));
+        }
+    }
+
+    @Benchmark
+    public void readStrings(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(stringArray.getBString(i));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.flags.TypeFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Creates the types used by the benchmarks, in place of the ones a compiled Ballerina module would define.
+ *
+ * @since 2.0.0
+ */
+final class BenchmarkTypes {
+
+    private static final Module BENCHMARK_MODULE = new Module("ballerina", "benchmark", "0.0.1");
+
+    private BenchmarkTypes() {
+    }
+
+    /**
+     * Creates a closed record type with a required int field for each of the given names.
+     *
+     * @param typeName   name of the record type
+     * @param fieldNames names of the fields
+     * @return the record type
+     */
+    static RecordType createIntRecordType(String typeName, BString... fieldNames) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        for (BString fieldName : fieldNames) {
+            fields.put(fieldName.getValue(), TypeCreator.createField(PredefinedTypes.TYPE_INT, fieldName.getValue(),
+                                                                     SymbolFlags.REQUIRED));
+        }
+        return TypeCreator.createRecordType(typeName, BENCHMARK_MODULE, 0, fields, null, true,
+                                            TypeFlags.asMask(TypeFlags.ANYDATA, TypeFlags.PURETYPE));
+    }
+
+    /**
+     * Creates an open record type with a required field of the given type for each of the given names.
+     *
+     * @param typeName   name of the record type
+     * @param fieldType  type of the fields
+     * @param fieldNames names of the fields
+     * @return the record type
+     */
+    static RecordType createOpenRecordType(String typeName, Type fieldType, BString... fieldNames) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        for (BString fieldName : fieldNames) {
+            fields.put(fieldName.getValue(), TypeCreator.createField(fieldType, fieldName.getValue(),
+                                                                     SymbolFlags.REQUIRED));
+        }
+        return TypeCreator.createRecordType(typeName, BENCHMARK_MODULE, 0, fields, PredefinedTypes.TYPE_ANYDATA,
+                                            false, TypeFlags.asMask(TypeFlags.ANYDATA, TypeFlags.PURETYPE));
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.scheduling.AsyncUtils;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.types.BFunctionType;
+import io.ballerina.runtime.internal.values.FPValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Benchmarks for calling a function pointer for each element of a collection, as lang.array:map and the other
+ * iterating langlib functions do.
+ * <p>
+ * {@code inlineCalls} goes through {@link AsyncUtils#invokeFunctionPointerAsyncIteratively}, which runs the calls in
+ * the thread of the calling strand while they complete without yielding. {@code scheduledCalls} schedules each call
+ * as a new strand through the runnable list and schedules the next one from its callback, which is how every call
+ * was run before.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FunctionPointerBenchmark {
+
+    private static final StrandMetadata METADATA = new StrandMetadata("ballerina", "benchmark", "0.0.1", "map");
+
+    @Param({"16", "1024"})
+    public int elements;
+
+    private Scheduler scheduler;
+    private BFunctionPointer<Object[], Object> doubler;
+
+    @Setup
+    public void setup() {
+        scheduler = new Scheduler(true);
+        Thread schedulerThread = new Thread(scheduler::start, "benchmark-scheduler");
+        schedulerThread.setDaemon(true);
+        schedulerThread.start();
+        BFunctionType type = new BFunctionType(new Type[]{PredefinedTypes.TYPE_INT}, null, PredefinedTypes.TYPE_INT,
+                                               0);
+        doubler = new FPValue<>(args -> (long) args[1] * 2, type, null, false);
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.poison();
+    }
+
+    @Benchmark
+    public long inlineCalls() throws InterruptedException {
+        return runOnStrand(params -> {
+            Strand parent = Scheduler.getStrand();
+            AtomicInteger index = new AtomicInteger();
+            long[] sum = new long[1];
+            AsyncUtils.invokeFunctionPointerAsyncIteratively(doubler, null, METADATA, elements,
+                                                             () -> new Object[]{parent,
+                                                                     (long) index.getAndIncrement(), true},
+                                                             result -> sum[0] += (long) result, () -> sum[0],
+                                                             scheduler);
+            return sum[0];
+        });
+    }
+
+    @Benchmark
+    public long scheduledCalls() throws InterruptedException {
+        ChainedCallback callback = new ChainedCallback();
+        scheduleCall(0, callback);
+        callback.done.await();
+        return callback.sum;
+    }
+
+    private void scheduleCall(long element, Callback callback) {
+        scheduler.schedule(new Object[]{null, element, true}, doubler.getFunction(), null, callback, "map",
+                           METADATA);
+    }
+
+    private long runOnStrand(Function<Object[], Object> function) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        long[] result = new long[1];
+        scheduler.schedule(new Object[1], function, null, new Callback() {
+            @Override
+            public void notifySuccess(Object value) {
+                result[0] = (long) value;
+                done.countDown();
+            }
+
+            @Override
+            public void notifyFailure(BError error) {
+                done.countDown();
+            }
+        }, "run", METADATA);
+        done.await();
+        return result[0];
+    }
+
+    /**
+     * Schedules the call for the next element once the call for the previous one completes.
+     */
+    private class ChainedCallback implements Callback {
+
+        private final CountDownLatch done = new CountDownLatch(1);
+        private int index;
+        private long sum;
+
+        @Override
+        public void notifySuccess(Object result) {
+            sum += (long) result;
+            if (++index < elements) {
+                scheduleCall(index, this);
+            } else {
+                done.countDown();
+            }
+        }
+
+        @Override
+        public void notifyFailure(BError error) {
+            done.countDown();
+        }
+    }
+}
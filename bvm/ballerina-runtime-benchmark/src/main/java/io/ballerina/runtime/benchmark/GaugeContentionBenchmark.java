@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import org.ballerinalang.observe.metrics.extension.defaultimpl.DefaultMetricProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks recording response times into a single gauge of the default metrics extension from a growing number of
+ * threads, as all strands serving a hot resource do.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GaugeContentionBenchmark {
+
+    private Gauge responseTime;
+    private Gauge inProgress;
+
+    @Setup
+    public void setup() {
+        DefaultMetricProvider metricProvider = new DefaultMetricProvider();
+        StatisticConfig[] statisticConfigs = new StatisticConfig[]{
+                StatisticConfig.builder().expiry(Duration.ofSeconds(10)).build(),
+                StatisticConfig.builder().expiry(Duration.ofMinutes(1)).build(),
+                StatisticConfig.builder().expiry(Duration.ofMinutes(5)).build()
+        };
+        responseTime = metricProvider.newGauge(new MetricId("response_time_seconds", "Response time",
+                Collections.emptySet()), statisticConfigs);
+        inProgress = metricProvider.newGauge(new MetricId("inprogress_requests", "In-progress requests",
+                Collections.emptySet()));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void recordWith1Thread() {
+        record();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void recordWith8Threads() {
+        record();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void recordWith32Threads() {
+        record();
+    }
+
+    private void record() {
+        inProgress.increment();
+        responseTime.setValue(ThreadLocalRandom.current().nextDouble(0.001, 1));
+        inProgress.decrement();
+    }
+}
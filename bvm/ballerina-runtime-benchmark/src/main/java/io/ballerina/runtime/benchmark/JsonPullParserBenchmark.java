@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.utils.JsonPullParser;
+import io.ballerina.runtime.internal.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing the tree building {@link JsonParser} with the event based {@link JsonPullParser} over
+ * documents of different sizes.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class JsonPullParserBenchmark {
+
+    @Param({"1024", "102400", "104857600"})
+    public int documentSize;
+
+    private byte[] document;
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder(documentSize + 256).append('[');
+        for (int i = 0; builder.length() < documentSize; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\":").append(i)
+                    .append(",\"name\":\"name").append(i)
+                    .append("\",\"price\":").append(i * 1.5)
+                    .append(",\"active\":").append(i % 2 == 0)
+                    .append(",\"tags\":[\"a\",\"b\"],\"parent\":null}");
+        }
+        document = builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Object parseTree() {
+        return JsonParser.parse(new ByteArrayInputStream(document));
+    }
+
+    @Benchmark
+    public void pullEvents(Blackhole blackhole) {
+        JsonPullParser parser = new JsonPullParser(new ByteArrayInputStream(document));
+        for (JsonPullParser.Event event = parser.next(); event != null; event = parser.next()) {
+            if (event == JsonPullParser.Event.VALUE_STRING || event == JsonPullParser.Event.VALUE_NUMBER) {
+                blackhole.consume(parser.getValue());
+            } else {
+                blackhole.consume(event);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for creating, updating and reading map and record values backed by {@link MapValueImpl}.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapValueBenchmark {
+
+    @Param({"4", "64"})
+    public int size;
+
+    private MapType mapType;
+    private RecordType recordType;
+    private BString[] keys;
+    private MapValueImpl<BString, Object> map;
+
+    @Setup
+    public void setup() {
+        mapType = TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+        keys = new BString[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = StringUtils.fromString("field" + i);
+        }
+        recordType = BenchmarkTypes.createIntRecordType("Fields", keys);
+        map = putEntries();
+    }
+
+    @Benchmark
+    public MapValueImpl<BString, Object> putEntries() {
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(mapType);
+        for (int i = 0; i < size; i++) {
+            map.put(keys[i], (long) i);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public MapValueImpl<BString, Object> createRecord() {
+        MapValueImpl<BString, Object> record = new MapValueImpl<>(recordType);
+        for (int i = 0; i < size; i++) {
+            record.put(keys[i], (long) i);
+        }
+        return record;
+    }
+
+    @Benchmark
+    public long getEntries() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += (long) map.get(keys[i]);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.runtime.observability.metrics.BallerinaMetricsObserver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost {@link BallerinaMetricsObserver} adds to a request, compared to the same request without
+ * observability.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class MetricsObserverBenchmark {
+
+    // Number of distinct resources the requests are spread across
+    @Param({"1", "100"})
+    public int resources;
+
+    private final BallerinaMetricsObserver observer = new BallerinaMetricsObserver();
+
+    @Benchmark
+    public ObserverContext unobserved() {
+        ObserverContext observerContext = createObserverContext();
+        Blackhole.consumeCPU(100);
+        return observerContext;
+    }
+
+    @Benchmark
+    public ObserverContext observed() {
+        ObserverContext observerContext = createObserverContext();
+        observer.startServerObservation(observerContext);
+        Blackhole.consumeCPU(100);
+        observer.stopServerObservation(observerContext);
+        return observerContext;
+    }
+
+    private ObserverContext createObserverContext() {
+        ObserverContext observerContext = new StartedObserverContext();
+        observerContext.addTag("src.module", "ballerina/benchmark:1.0.0");
+        observerContext.addTag("src.service.resource", "true");
+        observerContext.addTag("src.resource.accessor", "get");
+        observerContext.addTag("src.resource.path",
+                "/orders/" + (int) (Math.random() * resources));
+        observerContext.addTag("listener.name", "http");
+        return observerContext;
+    }
+
+    /**
+     * Observer context which is always started, since only the observability runtime can mark a context as started.
+     */
+    private static class StartedObserverContext extends ObserverContext {
+
+        @Override
+        public boolean isStarted() {
+            return true;
+        }
+    }
+}
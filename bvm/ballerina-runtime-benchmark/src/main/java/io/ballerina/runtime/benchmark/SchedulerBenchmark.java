@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Benchmarks for scheduling strands on the {@link Scheduler} and waiting for them to complete.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchedulerBenchmark {
+
+    private static final StrandMetadata METADATA = new StrandMetadata("ballerina", "benchmark", "0.0.1", "run");
+
+    @Param({"1", "100"})
+    public int strands;
+
+    private Scheduler scheduler;
+    private Function<Object[], Object> function;
+
+    @Setup
+    public void setup() {
+        scheduler = new Scheduler(true);
+        Thread schedulerThread = new Thread(scheduler::start, "benchmark-scheduler");
+        schedulerThread.setDaemon(true);
+        schedulerThread.start();
+        function = params -> params[1];
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.poison();
+    }
+
+    @Benchmark
+    public long scheduleAndWait() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(strands);
+        AtomicLong sum = new AtomicLong();
+        Callback callback = new Callback() {
+            @Override
+            public void notifySuccess(Object result) {
+                sum.addAndGet((long) result);
+                latch.countDown();
+            }
+
+            @Override
+            public void notifyFailure(BError error) {
+                latch.countDown();
+            }
+        };
+        for (int i = 0; i < strands; i++) {
+            scheduler.schedule(new Object[]{null, (long) i}, function, null, callback, "run", METADATA);
+        }
+        latch.await();
+        return sum.get();
+    }
+}
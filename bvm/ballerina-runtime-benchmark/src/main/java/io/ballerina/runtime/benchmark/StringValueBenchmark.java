@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for building strings with {@link BString#concat} on BMP and non-BMP string values.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringValueBenchmark {
+
+    @Param({"8", "256", "10000", "1000000"})
+    public int parts;
+
+    private BString bmpPart;
+    private BString nonBmpPart;
+
+    @Setup
+    public void setup() {
+        bmpPart = StringUtils.fromString("part");
+        nonBmpPart = StringUtils.fromString("\uD83D\uDE00part");
+    }
+
+    @Benchmark
+    public BString concatBmp() {
+        BString result = StringUtils.fromString("");
+        for (int i = 0; i < parts; i++) {
+            result = result.concat(bmpPart);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public BString concatNonBmp() {
+        BString result = StringUtils.fromString("");
+        for (int i = 0; i < parts; i++) {
+            result = result.concat(nonBmpPart);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public String concatAndMaterialize() {
+        return concatBmp().getValue();
+    }
+}
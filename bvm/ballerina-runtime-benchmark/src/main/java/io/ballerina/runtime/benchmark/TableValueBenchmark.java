@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.IteratorValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for adding rows to and looking up rows in keyed and keyless {@link TableValueImpl} values.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TableValueBenchmark {
+
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString VALUE = StringUtils.fromString("value");
+
+    @Param({"16", "1024"})
+    public int size;
+
+    private TableType keyedTableType;
+    private TableType keylessTableType;
+    private MapValueImpl<BString, Object>[] rows;
+    private TableValueImpl<Object, MapValueImpl<BString, Object>> keyedTable;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        RecordType rowType = BenchmarkTypes.createIntRecordType("Row", ID, VALUE);
+        keyedTableType = TypeCreator.createTableType(rowType, new String[]{ID.getValue()}, false);
+        keylessTableType = TypeCreator.createTableType(rowType, false);
+        rows = new MapValueImpl[size];
+        for (int i = 0; i < size; i++) {
+            MapValueImpl<BString, Object> row = new MapValueImpl<>(rowType);
+            row.put(ID, (long) i);
+            row.put(VALUE, (long) i * 2);
+            rows[i] = row;
+        }
+        keyedTable = addKeyedRows();
+    }
+
+    @Benchmark
+    public TableValueImpl<Object, MapValueImpl<BString, Object>> addKeyedRows() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table = new TableValueImpl<>(keyedTableType);
+        for (MapValueImpl<BString, Object> row : rows) {
+            table.add(row);
+        }
+        return table;
+    }
+
+    @Benchmark
+    public TableValueImpl<Object, MapValueImpl<BString, Object>> addKeylessRows() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table = new TableValueImpl<>(keylessTableType);
+        for (MapValueImpl<BString, Object> row : rows) {
+            table.add(row);
+        }
+        return table;
+    }
+
+    @Benchmark
+    public void getByKey(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(keyedTable.get((long) i));
+        }
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        IteratorValue iterator = keyedTable.getIterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public TableValueImpl<Object, MapValueImpl<BString, Object>> removeAndAddRows() {
+        for (int i = 0; i < size; i += 2) {
+            keyedTable.remove((long) i);
+        }
+        for (int i = 0; i < size; i += 2) {
+            keyedTable.add(rows[i]);
+        }
+        return keyedTable;
+    }
+}
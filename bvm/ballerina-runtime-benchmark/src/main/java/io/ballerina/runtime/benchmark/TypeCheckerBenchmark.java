@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for value and type relation checks done through {@link TypeChecker#checkIsType}.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TypeCheckerBenchmark {
+
+    private Object intValue;
+    private Object stringValue;
+    private MapValueImpl<BString, Object> record;
+    private ArrayValueImpl intArray;
+
+    private Type intOrStringOrNil;
+    private Type anydataMap;
+    private Type anydataArray;
+    private Type jsonType;
+    private RecordType recordType;
+    private RecordType openRecordType;
+
+    @Setup
+    public void setup() {
+        BString name = StringUtils.fromString("name");
+        BString age = StringUtils.fromString("age");
+        recordType = BenchmarkTypes.createIntRecordType("Person", name, age);
+        record = new MapValueImpl<>(recordType);
+        record.put(name, 1L);
+        record.put(age, 30L);
+        intArray = new ArrayValueImpl(new long[]{1, 2, 3, 4}, false);
+
+        intValue = 42L;
+        stringValue = StringUtils.fromString("value");
+        intOrStringOrNil = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING,
+                                                       PredefinedTypes.TYPE_NULL);
+        anydataMap = TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA);
+        anydataArray = TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA);
+        jsonType = PredefinedTypes.TYPE_JSON;
+        openRecordType = BenchmarkTypes.createOpenRecordType("OpenPerson", TypeCreator.createUnionType(
+                PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING), name, age);
+    }
+
+    @Benchmark
+    public void simpleValueInUnion(Blackhole blackhole) {
+        blackhole.consume(TypeChecker.checkIsType(intValue, intOrStringOrNil));
+        blackhole.consume(TypeChecker.checkIsType(stringValue, intOrStringOrNil));
+    }
+
+    @Benchmark
+    public boolean recordAsAnydataMap() {
+        return TypeChecker.checkIsType(record, anydataMap);
+    }
+
+    @Benchmark
+    public boolean recordAsJson() {
+        return TypeChecker.checkIsType(record, jsonType);
+    }
+
+    @Benchmark
+    public boolean intArrayAsAnydataArray() {
+        return TypeChecker.checkIsType(intArray, anydataArray);
+    }
+
+    @Benchmark
+    public boolean recordTypeAsAnydataMapType() {
+        return TypeChecker.checkIsType(recordType, anydataMap);
+    }
+
+    @Benchmark
+    public boolean recordTypeAsOpenRecordType() {
+        return TypeChecker.checkIsType(recordType, openRecordType);
+    }
+}
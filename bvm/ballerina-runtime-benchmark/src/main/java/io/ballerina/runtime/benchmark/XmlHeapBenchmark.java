@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.XmlFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the heap retained by XML trees parsed from large SOAP documents with {@link XmlFactory}. The
+ * {@code retainedBytes} counter reports the heap held by the last parsed tree. Streaming the same documents one order
+ * at a time with {@link XmlUtils#parseElements} is benchmarked for comparison.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class XmlHeapBenchmark {
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+    private static final String SOAP_NS = "{http://schemas.xmlsoap.org/soap/envelope/}";
+    private static final String ORDER_NS = "{http://ballerina.io/order}";
+    private static final String ORDER_PATH = SOAP_NS + "Envelope/" + SOAP_NS + "Body/" + ORDER_NS + "orders/" +
+            ORDER_NS + "order";
+
+    @Param({"1048576", "52428800"})
+    public int documentSize;
+
+    private String document;
+
+    /**
+     * Heap retained by the parsed tree.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Heap {
+
+        public long retainedBytes;
+    }
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder("<soapenv:Envelope " +
+                "xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:m=\"http://ballerina.io/order\">" +
+                "<soapenv:Header/><soapenv:Body><m:orders>");
+        for (int i = 0; builder.length() < documentSize; i++) {
+            builder.append("<m:order id=\"").append(i).append("\" status=\"open\"><m:customer>Customer ").append(i)
+                    .append("</m:customer><m:item sku=\"SKU-").append(i).append("\" quantity=\"2\">Item ").append(i)
+                    .append("</m:item><m:price currency=\"USD\">").append(i * 1.5).append("</m:price></m:order>");
+        }
+        document = builder.append("</m:orders></soapenv:Body></soapenv:Envelope>").toString();
+    }
+
+    @Benchmark
+    public BXml parse(Heap heap) {
+        long before = usedHeap();
+        BXml xml = XmlFactory.parse(document);
+        heap.retainedBytes = usedHeap() - before;
+        return xml;
+    }
+
+    @Benchmark
+    public void streamElements(Blackhole blackhole) {
+        Iterator<BXml> orders = XmlUtils.parseElements(new StringReader(document), ORDER_PATH);
+        while (orders.hasNext()) {
+            blackhole.consume(orders.next());
+        }
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+}
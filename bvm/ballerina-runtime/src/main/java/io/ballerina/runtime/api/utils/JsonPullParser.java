@@ -0,0 +1,588 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.api.utils;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Reads a UTF-8 encoded JSON document from bytes one event at a time.
+ * <p>
+ * Unlike {@link JsonUtils#parse(InputStream)}, the parser does not decode the input to characters and does not build
+ * the JSON value of the document. It keeps a fixed size input buffer, the nesting of the containers it is in and the
+ * current token, so a document of any size can be processed with bounded memory. Only the contents of strings are
+ * decoded. Numbers, strings and the values built by {@link #readValue()} are the same values {@code JsonParser}
+ * creates for them.
+ *
+ * <pre>
+ * try (JsonPullParser parser = new JsonPullParser(inputStream)) {
+ *     for (JsonPullParser.Event event = parser.next(); event != null; event = parser.next()) {
+ *         ...
+ *     }
+ * }
+ * </pre>
+ *
+ * @since 2.0.0
+ */
+public final class JsonPullParser implements Closeable {
+
+    /**
+     * Events reported while reading a JSON document.
+     */
+    public enum Event {
+        START_OBJECT,
+        END_OBJECT,
+        START_ARRAY,
+        END_ARRAY,
+        FIELD_NAME,
+        VALUE_STRING,
+        VALUE_NUMBER,
+        VALUE_BOOLEAN,
+        VALUE_NULL
+    }
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final byte OBJECT = 0;
+    private static final byte ARRAY = 1;
+    private static final Object NO_FIELD_NAME = new Object();
+
+    private final InputStream in;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+
+    private byte[] containers = new byte[32];
+    private int depth;
+    private boolean firstEntry;
+    private boolean documentStarted;
+    private boolean documentEnded;
+
+    private char[] chars = new char[256];
+    private int charCount;
+
+    private Event currentEvent;
+    private Object currentValue;
+    private int line = 1;
+    private int column;
+
+    /**
+     * Creates a parser that reads the document from the given stream.
+     *
+     * @param in stream of the UTF-8 encoded document
+     */
+    public JsonPullParser(InputStream in) {
+        this(in, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a parser that reads the document from the given stream, reading at most the given number of bytes at a
+     * time.
+     *
+     * @param in         stream of the UTF-8 encoded document
+     * @param bufferSize size of the input buffer
+     */
+    public JsonPullParser(InputStream in, int bufferSize) {
+        this.in = in;
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * Creates a parser that reads the document from the given bytes.
+     *
+     * @param bytes UTF-8 encoded document
+     */
+    public JsonPullParser(byte[] bytes) {
+        this.in = null;
+        this.buffer = bytes;
+        this.limit = bytes.length;
+    }
+
+    /**
+     * Reads the next event of the document.
+     *
+     * @return the next event, or null once the whole document has been read
+     * @throws BError if the document is not valid JSON or cannot be read
+     */
+    public Event next() throws BError {
+        currentValue = null;
+        int b = readNonWhitespace();
+        if (depth == 0) {
+            if (documentEnded) {
+                if (b != -1) {
+                    throw createError("expected end of the document");
+                }
+                currentEvent = null;
+                return null;
+            }
+            if (!documentStarted) {
+                documentStarted = true;
+                b = skipByteOrderMark(b);
+            }
+            return readValueStart(b);
+        }
+
+        if (containers[depth - 1] == OBJECT) {
+            if (currentEvent == Event.FIELD_NAME) {
+                if (b != ':') {
+                    throw createExpectedError("':'");
+                }
+                return readValueStart(readNonWhitespace());
+            }
+            if (firstEntry) {
+                firstEntry = false;
+                if (b == '}') {
+                    return endContainer(Event.END_OBJECT);
+                }
+            } else {
+                if (b == '}') {
+                    return endContainer(Event.END_OBJECT);
+                }
+                if (b != ',') {
+                    throw createExpectedError("',' or '}'");
+                }
+                b = readNonWhitespace();
+            }
+            if (b != '"') {
+                throw createExpectedError("field name");
+            }
+            currentValue = readString();
+            return currentEvent = Event.FIELD_NAME;
+        }
+
+        if (firstEntry) {
+            firstEntry = false;
+            if (b == ']') {
+                return endContainer(Event.END_ARRAY);
+            }
+        } else {
+            if (b == ']') {
+                return endContainer(Event.END_ARRAY);
+            }
+            if (b != ',') {
+                throw createExpectedError("',' or ']'");
+            }
+            b = readNonWhitespace();
+        }
+        return readValueStart(b);
+    }
+
+    /**
+     * Returns the event last returned by {@link #next()}.
+     *
+     * @return the current event
+     */
+    public Event currentEvent() {
+        return currentEvent;
+    }
+
+    /**
+     * Returns the name of the field at a {@link Event#FIELD_NAME} event.
+     *
+     * @return field name
+     */
+    public BString getFieldName() {
+        if (currentEvent != Event.FIELD_NAME) {
+            throw new IllegalStateException("not at a field name: " + currentEvent);
+        }
+        return (BString) currentValue;
+    }
+
+    /**
+     * Returns the value at a {@link Event#VALUE_STRING}, {@link Event#VALUE_NUMBER}, {@link Event#VALUE_BOOLEAN} or
+     * {@link Event#VALUE_NULL} event.
+     *
+     * @return the string, int, decimal, float, boolean or nil value
+     */
+    public Object getValue() {
+        if (!isScalarValue(currentEvent)) {
+            throw new IllegalStateException("not at a value: " + currentEvent);
+        }
+        return currentValue;
+    }
+
+    /**
+     * Reads the value that starts at the current event. At a {@link Event#START_OBJECT} or {@link Event#START_ARRAY}
+     * event, the whole object or array is read and the parser is left at its end event.
+     *
+     * @return the JSON value
+     * @throws BError if the document is not valid JSON or cannot be read
+     */
+    public Object readValue() throws BError {
+        Event event = currentEvent;
+        if (isScalarValue(event)) {
+            return currentValue;
+        }
+        if (event != Event.START_OBJECT && event != Event.START_ARRAY) {
+            throw new IllegalStateException("not at the start of a value: " + event);
+        }
+
+        Deque<Object> parents = new ArrayDeque<>();
+        Deque<Object> parentFieldNames = new ArrayDeque<>();
+        Object container = createContainer(event);
+        Object fieldName = NO_FIELD_NAME;
+        while (true) {
+            event = next();
+            switch (event) {
+                case START_OBJECT:
+                case START_ARRAY:
+                    parents.push(container);
+                    parentFieldNames.push(fieldName);
+                    container = createContainer(event);
+                    fieldName = NO_FIELD_NAME;
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    if (parents.isEmpty()) {
+                        return container;
+                    }
+                    Object value = container;
+                    container = parents.pop();
+                    fieldName = parentFieldNames.pop();
+                    addMember(container, fieldName, value);
+                    break;
+                case FIELD_NAME:
+                    fieldName = currentValue;
+                    break;
+                default:
+                    addMember(container, fieldName, currentValue);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Skips the value that starts at the current event. At a {@link Event#START_OBJECT} or {@link Event#START_ARRAY}
+     * event, the parser is left at the end event of the object or array.
+     *
+     * @throws BError if the document is not valid JSON or cannot be read
+     */
+    public void skipValue() throws BError {
+        if (currentEvent != Event.START_OBJECT && currentEvent != Event.START_ARRAY) {
+            return;
+        }
+        int targetDepth = depth - 1;
+        while (depth > targetDepth) {
+            next();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (in != null) {
+            in.close();
+        }
+    }
+
+    private static boolean isScalarValue(Event event) {
+        return event == Event.VALUE_STRING || event == Event.VALUE_NUMBER || event == Event.VALUE_BOOLEAN ||
+                event == Event.VALUE_NULL;
+    }
+
+    private static Object createContainer(Event event) {
+        if (event == Event.START_OBJECT) {
+            return new MapValueImpl<BString, Object>(new BMapType(PredefinedTypes.TYPE_JSON));
+        }
+        return new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addMember(Object container, Object fieldName, Object value) {
+        if (container instanceof MapValueImpl) {
+            ((MapValueImpl<BString, Object>) container).put((BString) fieldName, value);
+        } else {
+            ((ArrayValueImpl) container).append(value);
+        }
+    }
+
+    private Event readValueStart(int b) {
+        Event event;
+        switch (b) {
+            case '{':
+                pushContainer(OBJECT);
+                return currentEvent = Event.START_OBJECT;
+            case '[':
+                pushContainer(ARRAY);
+                return currentEvent = Event.START_ARRAY;
+            case '"':
+                currentValue = readString();
+                event = Event.VALUE_STRING;
+                break;
+            case 't':
+                readKeyword("true");
+                currentValue = Boolean.TRUE;
+                event = Event.VALUE_BOOLEAN;
+                break;
+            case 'f':
+                readKeyword("false");
+                currentValue = Boolean.FALSE;
+                event = Event.VALUE_BOOLEAN;
+                break;
+            case 'n':
+                readKeyword("null");
+                event = Event.VALUE_NULL;
+                break;
+            default:
+                if (b != '-' && (b < '0' || b > '9')) {
+                    throw b == -1 ? createError("unexpected end of the document") : createExpectedError("a value");
+                }
+                currentValue = readNumber(b);
+                event = Event.VALUE_NUMBER;
+                break;
+        }
+        if (depth == 0) {
+            documentEnded = true;
+        }
+        return currentEvent = event;
+    }
+
+    private void pushContainer(byte container) {
+        if (depth == containers.length) {
+            byte[] newContainers = new byte[depth * 2];
+            System.arraycopy(containers, 0, newContainers, 0, depth);
+            containers = newContainers;
+        }
+        containers[depth++] = container;
+        firstEntry = true;
+    }
+
+    private Event endContainer(Event event) {
+        depth--;
+        firstEntry = false;
+        if (depth == 0) {
+            documentEnded = true;
+        }
+        return currentEvent = event;
+    }
+
+    private void readKeyword(String keyword) {
+        for (int i = 1; i < keyword.length(); i++) {
+            if (read() != keyword.charAt(i)) {
+                throw createError("unrecognized token, expected '" + keyword + "'");
+            }
+        }
+    }
+
+    /**
+     * Reads a number the same way {@code JsonParser} does: a number with a fraction is a decimal, any other number is
+     * an int and negative zero is a float.
+     */
+    private Object readNumber(int first) {
+        charCount = 0;
+        appendChar((char) first);
+        int b = peek();
+        while ((b >= '0' && b <= '9') || b == '.' || b == 'e' || b == 'E' || b == '+' || b == '-') {
+            appendChar((char) read());
+            b = peek();
+        }
+        String token = new String(chars, 0, charCount);
+        try {
+            if (token.charAt(0) == '-' && Double.parseDouble(token) == 0) {
+                return Double.parseDouble(token);
+            }
+            if (token.indexOf('.') >= 0) {
+                return new DecimalValue(token);
+            }
+            return Long.parseLong(token);
+        } catch (NumberFormatException e) {
+            throw createError("unrecognized token '" + token + "'");
+        }
+    }
+
+    private BString readString() {
+        charCount = 0;
+        while (true) {
+            int b = read();
+            if (b == '"') {
+                return StringUtils.fromString(new String(chars, 0, charCount));
+            }
+            if (b == -1) {
+                throw createError("unterminated string");
+            }
+            if (b == '\\') {
+                appendChar(readEscapedChar());
+            } else if (b < 0x80) {
+                appendChar((char) b);
+            } else {
+                appendCodePoint(readMultiByteChar(b));
+            }
+        }
+    }
+
+    private char readEscapedChar() {
+        int b = read();
+        switch (b) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) b;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int codeUnit = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw createExpectedError("hexadecimal value of an unicode character");
+                    }
+                    codeUnit = (codeUnit << 4) | digit;
+                }
+                return (char) codeUnit;
+            default:
+                throw createExpectedError("escaped characters");
+        }
+    }
+
+    private int readMultiByteChar(int first) {
+        int continuationBytes;
+        int codePoint;
+        int minCodePoint;
+        if (first >= 0xC2 && first <= 0xDF) {
+            continuationBytes = 1;
+            codePoint = first & 0x1F;
+            minCodePoint = 0x80;
+        } else if (first >= 0xE0 && first <= 0xEF) {
+            continuationBytes = 2;
+            codePoint = first & 0x0F;
+            minCodePoint = 0x800;
+        } else if (first >= 0xF0 && first <= 0xF4) {
+            continuationBytes = 3;
+            codePoint = first & 0x07;
+            minCodePoint = 0x10000;
+        } else {
+            throw createError("invalid UTF-8 byte sequence");
+        }
+        for (int i = 0; i < continuationBytes; i++) {
+            int b = read();
+            if ((b & 0xC0) != 0x80) {
+                throw createError("invalid UTF-8 byte sequence");
+            }
+            codePoint = (codePoint << 6) | (b & 0x3F);
+        }
+        if (codePoint < minCodePoint || codePoint > Character.MAX_CODE_POINT ||
+                (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+            throw createError("invalid UTF-8 byte sequence");
+        }
+        return codePoint;
+    }
+
+    private void appendCodePoint(int codePoint) {
+        if (Character.isBmpCodePoint(codePoint)) {
+            appendChar((char) codePoint);
+        } else {
+            appendChar(Character.highSurrogate(codePoint));
+            appendChar(Character.lowSurrogate(codePoint));
+        }
+    }
+
+    private void appendChar(char ch) {
+        if (charCount == chars.length) {
+            char[] newChars = new char[chars.length * 2];
+            System.arraycopy(chars, 0, newChars, 0, charCount);
+            chars = newChars;
+        }
+        chars[charCount++] = ch;
+    }
+
+    private int skipByteOrderMark(int b) {
+        if (b != 0xEF) {
+            return b;
+        }
+        if (read() != 0xBB || read() != 0xBF) {
+            throw createError("invalid UTF-8 byte sequence");
+        }
+        return readNonWhitespace();
+    }
+
+    private int readNonWhitespace() {
+        int b = read();
+        while (b == ' ' || b == '\t' || b == '\n' || b == '\r') {
+            b = read();
+        }
+        return b;
+    }
+
+    private int peek() {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position] & 0xFF;
+    }
+
+    private int read() {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        int b = buffer[position++] & 0xFF;
+        if (b == '\n') {
+            line++;
+            column = 0;
+        } else if ((b & 0xC0) != 0x80) {
+            column++;
+        }
+        return b;
+    }
+
+    private boolean fill() {
+        if (in == null) {
+            return false;
+        }
+        try {
+            int count = in.read(buffer, 0, buffer.length);
+            while (count == 0) {
+                count = in.read(buffer, 0, buffer.length);
+            }
+            if (count < 0) {
+                return false;
+            }
+            position = 0;
+            limit = count;
+            return true;
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+        }
+    }
+
+    private BError createExpectedError(String expected) {
+        return createError("expected " + expected);
+    }
+
+    private BError createError(String message) {
+        return ErrorCreator.createError(StringUtils.fromString(message + " at line: " + line + " column: " + column));
+    }
+}
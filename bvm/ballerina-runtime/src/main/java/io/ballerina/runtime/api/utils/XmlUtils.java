@@ -22,13 +22,17 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlQName;
+import io.ballerina.runtime.internal.XmlElementIterator;
 import io.ballerina.runtime.internal.XmlFactory;
 import io.ballerina.runtime.internal.XmlValidator;
 import io.ballerina.runtime.internal.values.TableValueImpl;
 import io.ballerina.runtime.internal.values.XmlQName;
 
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Iterator;
 
 /**
  * Class @{@link XmlUtils} provides APIs to handle xml values.
@@ -88,6 +92,34 @@ public class XmlUtils {
         return XmlFactory.parse(reader);
     }
 
+    /**
+     * Create an iterator over the elements at the given element path of a XML document, which reads the document as
+     * the elements are requested. Only the element being returned is kept in memory. The iterator throws a
+     * {@link BError} if the document is invalid.
+     *
+     * @param reader      XML reader
+     * @param elementPath names of the elements from the document element down to the elements to iterate, separated
+     *                    by '/'
+     * @return iterator over the matching elements
+     */
+    public static Iterator<BXml> parseElements(Reader reader, String elementPath) {
+        return new XmlElementIterator(reader, elementPath);
+    }
+
+    /**
+     * Create an iterator over the elements at the given element path of a XML input stream with a given charset,
+     * which reads the stream as the elements are requested.
+     *
+     * @param xmlStream   XML input stream
+     * @param charset     Charset to be used for parsing
+     * @param elementPath names of the elements from the document element down to the elements to iterate, separated
+     *                    by '/'
+     * @return iterator over the matching elements
+     */
+    public static Iterator<BXml> parseElements(InputStream xmlStream, Charset charset, String elementPath) {
+        return new XmlElementIterator(new InputStreamReader(xmlStream, charset), elementPath);
+    }
+
     /**
      * Converts a {@link io.ballerina.runtime.internal.values.TableValue} to {@link BXml}.
      *
@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
 import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.IteratorValue;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.RefValue;
@@ -68,8 +69,10 @@ public class TableUtils {
             Type refType = refValue.getType();
             if (refType.getTag() == TypeTags.MAP_TAG || refType.getTag() == TypeTags.RECORD_TYPE_TAG) {
                 MapValue mapValue = (MapValue) refValue;
+                // Mappings with the same shape may hold their entries in a different order, hence the hashes of
+                // the entries are summed up rather than combined in iteration order.
                 for (Object entry : mapValue.entrySet()) {
-                    result = 31 * result + hash(((Map.Entry) entry).getKey(), node) +
+                    result += 31 * hash(((Map.Entry) entry).getKey(), node) +
                             (((Map.Entry) entry).getValue() == null ? 0 : hash(((Map.Entry) entry).getValue(),
                                     node));
                 }
@@ -96,6 +99,10 @@ public class TableUtils {
             } else {
                 return (long) obj.hashCode();
             }
+        } else if (obj instanceof DecimalValue) {
+            // Decimals that only differ in the number of trailing zeros are equal, but their big decimal hash
+            // codes are not.
+            return (long) ((DecimalValue) obj).value().stripTrailingZeros().hashCode();
         } else {
             return (long) obj.hashCode();
         }
@@ -614,6 +614,9 @@ public class TypeChecker {
         }
 
         if (sourceTypeTag == TypeTags.UNION_TAG) {
+            if (unresolvedTypes == null) {
+                return checkIsTypeMemoized(sourceType, targetType);
+            }
             return isUnionTypeMatch((BUnionType) sourceType, targetType, unresolvedTypes);
         }
 
@@ -672,11 +675,31 @@ public class TypeChecker {
             case TypeTags.XML_PI_TAG:
                 return targetTypeTag == sourceTypeTag;
             default:
-                return checkIsRecursiveType(sourceType, targetType,
-                        unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
+                if (unresolvedTypes == null) {
+                    return checkIsTypeMemoized(sourceType, targetType);
+                }
+                return checkIsRecursiveType(sourceType, targetType, unresolvedTypes);
         }
     }
 
+    /**
+     * Checks a union or structured source type against a target type, reusing the result of an earlier check of the
+     * same pair of types. Only checks that start without any unresolved type pairs are cached, since results computed
+     * while assuming that an enclosing pair of types matches are not final.
+     */
+    private static boolean checkIsTypeMemoized(Type sourceType, Type targetType) {
+        int cached = TypeRelationCache.get(sourceType, targetType);
+        if (cached != TypeRelationCache.UNKNOWN) {
+            return cached == TypeRelationCache.SUBTYPE;
+        }
+        int epoch = TypeRelationCache.getEpoch();
+        boolean subtype = sourceType.getTag() == TypeTags.UNION_TAG ?
+                isUnionTypeMatch((BUnionType) sourceType, targetType, new ArrayList<>()) :
+                checkIsRecursiveType(sourceType, targetType, new ArrayList<>());
+        TypeRelationCache.put(sourceType, targetType, subtype, epoch);
+        return subtype;
+    }
+
     private static boolean checkIsType(Object sourceVal, Type sourceType, Type targetType,
                                       List<TypePair> unresolvedTypes) {
         int sourceTypeTag = sourceType.getTag();
@@ -49,7 +49,6 @@ import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -374,13 +373,9 @@ public class TypeConverter {
         }
         unresolvedValues.add(typeValuePair);
 
-        Map<String, Type> targetFieldTypes = new HashMap<>();
+        Map<String, Type> targetFieldTypes = targetType.getFieldTypes();
         Type restFieldType = targetType.restFieldType;
 
-        for (Map.Entry<String, Field> field : targetType.getFields().entrySet()) {
-            targetFieldTypes.put(field.getKey(), field.getValue().getFieldType());
-        }
-
         MapValueImpl sourceMapValueImpl = (MapValueImpl) sourceValue;
         for (Map.Entry targetTypeEntry : targetFieldTypes.entrySet()) {
             String fieldName = targetTypeEntry.getKey().toString();
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.types.BType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of the results of type-only subtype checks, keyed by the identities of the source and the target
+ * types.
+ * <p>
+ * The cache is direct-mapped: each pair of types maps to a single slot, and a newer result replaces whatever the slot
+ * held before. Entries are immutable, so slots are read and written without locking. Since types may still be
+ * populated after they are created, any change to the members of a type invalidates all cached results.
+ *
+ * @since 2.0.0
+ */
+public final class TypeRelationCache {
+
+    static final int UNKNOWN = -1;
+    static final int NOT_SUBTYPE = 0;
+    static final int SUBTYPE = 1;
+
+    private static final int CACHE_SIZE = 1 << 12;
+
+    private static final Entry[] entries = new Entry[CACHE_SIZE];
+    private static final AtomicInteger epoch = new AtomicInteger();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private TypeRelationCache() {
+    }
+
+    /**
+     * Returns the number of type checks answered from the cache.
+     *
+     * @return number of cache hits
+     */
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of type checks that had to be computed.
+     *
+     * @return number of cache misses
+     */
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Invalidates all cached results. This has to be called whenever the members of a type change.
+     */
+    public static void invalidate() {
+        epoch.incrementAndGet();
+    }
+
+    static int getEpoch() {
+        return epoch.get();
+    }
+
+    static int get(Type sourceType, Type targetType) {
+        Entry entry = entries[index(sourceType, targetType)];
+        if (entry != null && entry.sourceType == sourceType && entry.targetType == targetType &&
+                entry.epoch == epoch.get()) {
+            hits.increment();
+            return entry.subtype ? SUBTYPE : NOT_SUBTYPE;
+        }
+        misses.increment();
+        return UNKNOWN;
+    }
+
+    /**
+     * Caches the result of a type check.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @param subtype    whether the source type is a subtype of the target type
+     * @param checkEpoch epoch read before the check was computed, so that a result computed while a type changed is
+     *                   never treated as current
+     */
+    static void put(Type sourceType, Type targetType, boolean subtype, int checkEpoch) {
+        entries[index(sourceType, targetType)] = new Entry(sourceType, targetType, subtype, checkEpoch);
+    }
+
+    private static int index(Type sourceType, Type targetType) {
+        int hash = identity(sourceType) * 0x9E3779B1 + identity(targetType);
+        return (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+    }
+
+    private static int identity(Type type) {
+        return type instanceof BType ? ((BType) type).getIdentity() : System.identityHashCode(type);
+    }
+
+    private static class Entry {
+
+        private final Type sourceType;
+        private final Type targetType;
+        private final boolean subtype;
+        private final int epoch;
+
+        private Entry(Type sourceType, Type targetType, boolean subtype, int epoch) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.subtype = subtype;
+            this.epoch = epoch;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BXml;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * Iterator over the elements of a XML document at a given element path, which reads the document as the elements are
+ * requested. Only the element being returned is built, so the memory used is bounded by the largest matching element
+ * rather than by the size of the document.
+ * <p>
+ * The element path is the names of the elements from the document element down to the matching elements, separated
+ * by '/', e.g. {@code feed/{http://www.w3.org/2005/Atom}entry}. Names are in the same form as element names, so a name
+ * without a namespace only matches elements without a namespace.
+ *
+ * @since 2.0.0
+ */
+public class XmlElementIterator implements Iterator<BXml> {
+
+    private final XmlTreeBuilder treeBuilder;
+    private final XMLStreamReader xmlStreamReader;
+    private final QName[] path;
+    // Depth of the current element, and the number of its ancestors matching the leading names of the path.
+    private int depth;
+    private int matchedDepth;
+    private BXml next;
+    private boolean done;
+
+    public XmlElementIterator(Reader reader, String elementPath) {
+        this.path = parsePath(elementPath);
+        this.treeBuilder = new XmlTreeBuilder(reader);
+        this.xmlStreamReader = treeBuilder.getXmlStreamReader();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public BXml next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        BXml element = next;
+        next = null;
+        return element;
+    }
+
+    private BXml readNext() {
+        try {
+            while (xmlStreamReader.hasNext()) {
+                int event = xmlStreamReader.next();
+                if (event == START_ELEMENT) {
+                    if (matchedDepth == depth && matches(path[depth])) {
+                        if (depth == path.length - 1) {
+                            // The reader is left at the end of the element, so the depth does not change.
+                            return treeBuilder.parseElement();
+                        }
+                        matchedDepth++;
+                    }
+                    depth++;
+                } else if (event == END_ELEMENT) {
+                    if (matchedDepth == depth) {
+                        matchedDepth--;
+                    }
+                    depth--;
+                }
+            }
+            close();
+            return null;
+        } catch (BError e) {
+            close();
+            throw e;
+        } catch (Exception e) {
+            close();
+            throw ErrorCreator.createError(StringUtils.fromString("failed to create xml: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Stops reading the document. The underlying reader is not closed.
+     */
+    public void close() {
+        done = true;
+        next = null;
+        try {
+            xmlStreamReader.close();
+        } catch (XMLStreamException e) {
+            // Nothing more is read from the document either way.
+        }
+    }
+
+    private boolean matches(QName name) {
+        String namespaceUri = xmlStreamReader.getNamespaceURI();
+        return name.getLocalPart().equals(xmlStreamReader.getLocalName()) &&
+                name.getNamespaceURI().equals(namespaceUri == null ? "" : namespaceUri);
+    }
+
+    private static QName[] parsePath(String elementPath) {
+        List<QName> names = new ArrayList<>();
+        int start = elementPath.startsWith("/") ? 1 : 0;
+        boolean inNamespace = false;
+        for (int i = start; i <= elementPath.length(); i++) {
+            char c = i < elementPath.length() ? elementPath.charAt(i) : '/';
+            if (c == '{') {
+                inNamespace = true;
+            } else if (c == '}') {
+                inNamespace = false;
+            } else if (c == '/' && (!inNamespace || i == elementPath.length())) {
+                names.add(parseName(elementPath, elementPath.substring(start, i)));
+                start = i + 1;
+            }
+        }
+        return names.toArray(new QName[0]);
+    }
+
+    private static QName parseName(String elementPath, String name) {
+        int closingCurly = name.startsWith("{") ? name.indexOf('}') : -1;
+        String localName = name.substring(closingCurly + 1);
+        if (localName.isEmpty() || (name.startsWith("{") && closingCurly < 0)) {
+            throw ErrorCreator.createError(StringUtils.fromString("invalid element path: '" + elementPath + "'"));
+        }
+        return closingCurly < 0 ? new QName(localName) : new QName(name.substring(1, closingCurly), localName);
+    }
+}
@@ -22,7 +22,6 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlSequence;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
-import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.XmlComment;
 import io.ballerina.runtime.internal.values.XmlItem;
 import io.ballerina.runtime.internal.values.XmlPi;
@@ -36,6 +35,7 @@ import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -73,6 +73,11 @@ public class XmlTreeBuilder {
     private Map<String, String> namespaces; // xml ns declarations from Bal source [xmlns "http://ns.com" as ns]
     private Deque<BXmlSequence> seqDeque;
     private Deque<List<BXml>> siblingDeque;
+    private Deque<XmlItem> elementDeque;
+    // Element names repeat throughout a document, so elements with the same name share a single QName.
+    private Map<QName, QName> elementNames;
+    private Map<BString, BString> attributes;
+    private Set<QName> usedNS;
 
     public XmlTreeBuilder(String str) {
         this(new StringReader(str));
@@ -82,6 +87,10 @@ public class XmlTreeBuilder {
         namespaces = new HashMap<>();
         seqDeque = new ArrayDeque<>();
         siblingDeque = new ArrayDeque<>();
+        elementDeque = new ArrayDeque<>();
+        elementNames = new HashMap<>();
+        attributes = new LinkedHashMap<>();
+        usedNS = new HashSet<>();
 
         ArrayList<BXml> siblings = new ArrayList<>();
         siblingDeque.push(siblings);
@@ -103,31 +112,10 @@ public class XmlTreeBuilder {
         try {
             while (xmlStreamReader.hasNext()) {
                 int next = xmlStreamReader.next();
-                switch (next) {
-                    case START_ELEMENT:
-                        readElement(xmlStreamReader);
-                        break;
-                    case END_ELEMENT:
-                        endElement();
-                        break;
-                    case PROCESSING_INSTRUCTION:
-                        readPI(xmlStreamReader);
-                        break;
-                    case COMMENT:
-                        readComment(xmlStreamReader);
-                        break;
-                    case CDATA:
-                    case CHARACTERS:
-                        readText(xmlStreamReader);
-                        break;
-                    case END_DOCUMENT:
-                        return buildDocument();
-                    case DTD:
-                        handleDTD(xmlStreamReader);
-                        break;
-                    default:
-                        assert false;
+                if (next == END_DOCUMENT) {
+                    return buildDocument();
                 }
+                readEvent(next);
             }
         } catch (Exception e) {
             handleXMLStreamException(e);
@@ -136,6 +124,67 @@ public class XmlTreeBuilder {
         return null;
     }
 
+    /**
+     * Build the element at the current start element event of the underlying reader, leaving the reader at the end
+     * element event of the element.
+     *
+     * @return the element
+     */
+    BXml parseElement() {
+        List<BXml> siblings = new ArrayList<>(1);
+        siblingDeque.push(siblings);
+        seqDeque.push(new XmlSequence(siblings));
+        try {
+            int depth = 0;
+            int next = xmlStreamReader.getEventType();
+            while (true) {
+                readEvent(next);
+                if (next == START_ELEMENT) {
+                    depth++;
+                } else if (next == END_ELEMENT && --depth == 0) {
+                    break;
+                }
+                next = xmlStreamReader.next();
+            }
+        } catch (XMLStreamException e) {
+            handleXMLStreamException(e);
+        }
+
+        this.siblingDeque.pop();
+        this.seqDeque.pop();
+        return siblings.get(0);
+    }
+
+    XMLStreamReader getXmlStreamReader() {
+        return xmlStreamReader;
+    }
+
+    private void readEvent(int next) {
+        switch (next) {
+            case START_ELEMENT:
+                readElement(xmlStreamReader);
+                break;
+            case END_ELEMENT:
+                endElement();
+                break;
+            case PROCESSING_INSTRUCTION:
+                readPI(xmlStreamReader);
+                break;
+            case COMMENT:
+                readComment(xmlStreamReader);
+                break;
+            case CDATA:
+            case CHARACTERS:
+                readText(xmlStreamReader);
+                break;
+            case DTD:
+                handleDTD(xmlStreamReader);
+                break;
+            default:
+                assert false;
+        }
+    }
+
     private void handleDTD(XMLStreamReader xmlStreamReader) {
         // ignore
     }
@@ -161,15 +210,24 @@ public class XmlTreeBuilder {
     }
 
     private void endElement() {
-        this.siblingDeque.pop();
+        List<BXml> children = this.siblingDeque.pop();
+        if (children instanceof ArrayList) {
+            // No more children are read for the element, so the spare capacity of the list is released.
+            ((ArrayList<BXml>) children).trimToSize();
+        }
         this.seqDeque.pop();
+        this.elementDeque.pop();
     }
 
     private void readElement(XMLStreamReader xmlStreamReader) {
-        QName elemName = xmlStreamReader.getName();
-        XmlQName name = new XmlQName(elemName.getLocalPart(),
-                                     elemName.getNamespaceURI(), elemName.getPrefix());
-        XmlItem xmlItem = (XmlItem) XmlFactory.createXMLElement(name, name, null);
+        QName elemName = getElementName(xmlStreamReader.getName());
+        XmlItem xmlItem = new XmlItem(elemName, false);
+        // Children are added to the list directly, so the parent links used for cycle detection are set here.
+        XmlItem parent = elementDeque.peek();
+        if (parent != null) {
+            xmlItem.setParsedParent(parent);
+        }
+        elementDeque.push(xmlItem);
 
         seqDeque.push(xmlItem.getChildrenSeq());
 
@@ -177,12 +235,29 @@ public class XmlTreeBuilder {
         populateAttributeMap(xmlStreamReader, xmlItem, elemName);
         siblingDeque.push(xmlItem.getChildrenSeq().getChildrenList());
     }
+
+    private QName getElementName(QName name) {
+        QName elemName = elementNames.get(name);
+        // QName equality ignores prefixes, so names which only differ by prefix are not shared.
+        if (elemName != null && elemName.getPrefix().equals(name.getPrefix())) {
+            return elemName;
+        }
+
+        // Validate whether the tag name is an XML supported qualified name, according to the XML recommendation.
+        XmlValidator.validateXMLQName(new XmlQName(name.getLocalPart(), name.getNamespaceURI(), name.getPrefix()));
+        if (elemName == null) {
+            elementNames.put(name, name);
+        }
+        return name;
+    }
+
     // need to duplicate the same in xmlItem.setAttribute
 
     // todo: need to write a comment explaining each step
     private void populateAttributeMap(XMLStreamReader xmlStreamReader, XmlItem xmlItem, QName elemName) {
-        MapValue<BString, BString> attributesMap = xmlItem.getAttributesMap();
-        Set<QName> usedNS = new HashSet<>(); // Track namespace prefixes found in this element.
+        Map<BString, BString> attributesMap = this.attributes;
+        attributesMap.clear();
+        usedNS.clear(); // Track namespace prefixes found in this element.
 
         int count = xmlStreamReader.getAttributeCount();
         for (int i = 0; i < count; i++) {
@@ -220,5 +295,16 @@ public class XmlTreeBuilder {
                                   StringUtils.fromString(uri));
             }
         }
+
+        if (attributesMap.isEmpty()) {
+            return;
+        }
+        BString[] parsedAttributes = new BString[attributesMap.size() * 2];
+        int i = 0;
+        for (Map.Entry<BString, BString> attribute : attributesMap.entrySet()) {
+            parsedAttributes[i++] = attribute.getKey();
+            parsedAttributes[i++] = attribute.getValue();
+        }
+        xmlItem.setParsedAttributes(parsedAttributes);
     }
 }
@@ -19,6 +19,8 @@
 package io.ballerina.runtime.internal.scheduling;
 
 import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.internal.types.BFunctionType;
@@ -126,35 +128,70 @@ public class AsyncUtils {
             return;
         }
         Strand strand = Scheduler.getStrand();
-        blockStrand(strand);
         AtomicInteger callCount = new AtomicInteger(0);
-        scheduleNextFunction(func, strand, strandName, metadata, noOfIterations, callCount, argsSupplier,
-                             futureResultConsumer, returnValueSupplier, scheduler);
+        invokeNextFunctions(func, strand, strandName, metadata, noOfIterations, callCount, argsSupplier,
+                            futureResultConsumer, returnValueSupplier, scheduler, false);
     }
 
-    private static void scheduleNextFunction(BFunctionPointer<?, ?> func, Strand strand, String strandName,
-                                             StrandMetadata metadata, int noOfIterations,
-                                             AtomicInteger callCount, Supplier<Object[]> argsSupplier,
-                                             Consumer<Object> futureResultConsumer,
-                                             Supplier<Object> returnValueSupplier, Scheduler scheduler) {
-        AsyncFunctionCallback callback = new AsyncFunctionCallback() {
-            @Override
-            public void notifySuccess(Object result) {
-                futureResultConsumer.accept(getFutureResult());
-                if (callCount.incrementAndGet() != noOfIterations) {
-                    scheduleNextFunction(func, strand, strandName, metadata, noOfIterations, callCount, argsSupplier,
-                                         futureResultConsumer, returnValueSupplier, scheduler);
-                } else {
-                    setReturnValues(returnValueSupplier.get());
+    /**
+     * Invokes the function pointer for the remaining iterations in the calling thread as long as each invocation
+     * completes without yielding. Once an invocation yields, the parent strand is blocked and the iteration is
+     * continued from the callback of that invocation.
+     */
+    private static void invokeNextFunctions(BFunctionPointer<?, ?> func, Strand strand, String strandName,
+                                            StrandMetadata metadata, int noOfIterations, AtomicInteger callCount,
+                                            Supplier<Object[]> argsSupplier, Consumer<Object> futureResultConsumer,
+                                            Supplier<Object> returnValueSupplier, Scheduler scheduler,
+                                            boolean parentBlocked) {
+        Type retType = ((BFunctionType) func.getType()).retType;
+        while (true) {
+            FutureValue future = scheduler.createFuture(strand, null, null, retType, strandName, metadata);
+            AsyncFunctionCallback callback = new AsyncFunctionCallback() {
+                @Override
+                public void notifySuccess(Object result) {
+                    futureResultConsumer.accept(getFutureResult());
+                    if (callCount.incrementAndGet() != noOfIterations) {
+                        invokeNextFunctions(func, strand, strandName, metadata, noOfIterations, callCount,
+                                            argsSupplier, futureResultConsumer, returnValueSupplier, scheduler, true);
+                    } else {
+                        setReturnValues(returnValueSupplier.get());
+                    }
                 }
+
+                @Override
+                public void notifyFailure(BError error) {
+                    handleRuntimeErrors(error);
+                }
+            };
+            callback.setFuture(future);
+            callback.setStrand(strand);
+
+            if (!scheduler.runLocal(argsSupplier.get(), func, strand, future, callback)) {
+                if (!parentBlocked) {
+                    // the yielded strand belongs to the group of the parent, so it cannot complete before the
+                    // parent returns from this native call
+                    blockStrand(strand);
+                }
+                return;
             }
 
-            @Override
-            public void notifyFailure(BError error) {
-                handleRuntimeErrors(error);
+            if (future.panic != null) {
+                BError error = ErrorCreator.createError(future.panic);
+                if (!parentBlocked) {
+                    throw error;
+                }
+                callback.handleRuntimeErrors(error);
+                return;
             }
-        };
-        invokeFunctionPointerAsync(func, strand, strandName, metadata, argsSupplier.get(), callback, scheduler);
+
+            futureResultConsumer.accept(future.result);
+            if (callCount.incrementAndGet() == noOfIterations) {
+                if (parentBlocked) {
+                    callback.setReturnValues(returnValueSupplier.get());
+                }
+                return;
+            }
+        }
     }
 
     private static class Unblocker implements java.util.function.BiConsumer<Object, Throwable> {
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * {@link RunnableQueue} backed by a single queue that is shared by all the scheduler threads.
+ *
+ * @since 2.0.0
+ */
+class GlobalRunnableQueue implements RunnableQueue {
+
+    private final BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+
+    @Override
+    public void registerWorker() {
+        // all the workers share the same queue
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        runnableList.add(group);
+    }
+
+    @Override
+    public void addLocal(ItemGroup group) {
+        runnableList.add(group);
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        return runnableList.take();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return runnableList.isEmpty();
+    }
+}
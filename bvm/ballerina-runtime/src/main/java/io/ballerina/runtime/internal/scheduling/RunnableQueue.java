@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+/**
+ * Holds the {@link ItemGroup}s that are ready to be executed by the scheduler threads.
+ *
+ * @since 2.0.0
+ */
+interface RunnableQueue {
+
+    /**
+     * Binds the calling thread as a worker of this queue. Must be called once by each scheduler thread before it
+     * starts taking groups.
+     */
+    void registerWorker();
+
+    /**
+     * Adds a newly created group. Groups added here are picked in arrival order.
+     *
+     * @param group group to be executed
+     */
+    void add(ItemGroup group);
+
+    /**
+     * Adds a group that is closely related to the work of the calling thread, such as a local strand or a
+     * rescheduled one. When called from a worker thread the group may be kept local to that worker.
+     *
+     * @param group group to be executed
+     */
+    void addLocal(ItemGroup group);
+
+    /**
+     * Waits until a group is available for the calling worker.
+     *
+     * @return the next group to execute
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take() throws InterruptedException;
+
+    boolean isEmpty();
+}
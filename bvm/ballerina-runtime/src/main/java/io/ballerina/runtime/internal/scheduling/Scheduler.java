@@ -38,8 +38,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
 import java.util.WeakHashMap;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -64,7 +62,7 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunnableQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
@@ -72,6 +70,30 @@ public class Scheduler {
 
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    /**
+     * This can be changed by setting the BALLERINA_SCHEDULER_POLICY system variable.
+     * Supported values are {@code global} (default) and {@code work-stealing}.
+     */
+    private static String schedulerPolicyConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR);
+
+    private static final String GLOBAL_QUEUE_POLICY = "global";
+    private static final String WORK_STEALING_POLICY = "work-stealing";
+
+    /**
+     * Scheduler threads are created as JDK virtual threads if the BALLERINA_VIRTUAL_THREADS system variable is set
+     * to true and the running JVM supports them. A strand blocked in a Java call then only blocks its virtual
+     * thread, not a platform thread.
+     */
+    private static String virtualThreadsConf = System.getenv(RuntimeConstants.BALLERINA_VIRTUAL_THREADS_ENV_VAR);
+
+    /**
+     * Default number of scheduler threads when running on virtual threads. Can be changed by setting the
+     * BALLERINA_MAX_POOL_SIZE system variable.
+     */
+    private static final int VIRTUAL_THREAD_POOL_SIZE = 1024;
+
+    private final boolean virtualThreads;
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -85,26 +107,71 @@ public class Scheduler {
     private Map<BObject, ItemGroup> objectGroups = Collections.synchronizedMap(new WeakHashMap<>());
 
     public Scheduler(boolean immortal) {
+        this.virtualThreads = isVirtualThreadsEnabled(Boolean.parseBoolean(virtualThreadsConf));
+        int threadCount = virtualThreads ? VIRTUAL_THREAD_POOL_SIZE : poolSize;
         try {
             if (poolSizeConf != null) {
                 poolSize = Integer.parseInt(poolSizeConf);
+                threadCount = poolSize;
             }
         } catch (Throwable t) {
             // Log and continue with default
             err.println("ballerina: error occurred in scheduler while reading system variable:" +
                                 RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR + ", " + t.getMessage());
         }
-        this.numThreads = poolSize;
+        this.numThreads = threadCount;
         this.immortal = immortal;
+        this.runnableList = createRunnableQueue(numThreads);
         listenerRegistry = new ListenerRegistry();
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        this(numThreads, immortal, Boolean.parseBoolean(virtualThreadsConf));
+    }
+
+    /**
+     * Creates a scheduler that uses virtual threads if requested and supported by the running JVM, regardless of the
+     * BALLERINA_VIRTUAL_THREADS system variable.
+     *
+     * @param numThreads     number of scheduler threads
+     * @param immortal       whether the scheduler keeps running after all the strands are done
+     * @param virtualThreads whether to run the scheduler threads as virtual threads
+     */
+    Scheduler(int numThreads, boolean immortal, boolean virtualThreads) {
+        this.virtualThreads = isVirtualThreadsEnabled(virtualThreads);
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.runnableList = createRunnableQueue(numThreads);
         listenerRegistry = new ListenerRegistry();
     }
 
+    private boolean isVirtualThreadsEnabled(boolean requested) {
+        if (!requested) {
+            return false;
+        }
+        if (!VirtualThreadFactory.isSupported()) {
+            // Log and continue with platform threads
+            err.println("ballerina: virtual threads are not supported by the current JVM, ignoring system variable:" +
+                                RuntimeConstants.BALLERINA_VIRTUAL_THREADS_ENV_VAR);
+            return false;
+        }
+        return true;
+    }
+
+    private RunnableQueue createRunnableQueue(int numThreads) {
+        if (schedulerPolicyConf == null || schedulerPolicyConf.equals(GLOBAL_QUEUE_POLICY)) {
+            return new GlobalRunnableQueue();
+        }
+        if (schedulerPolicyConf.equals(WORK_STEALING_POLICY)) {
+            return new WorkStealingRunnableQueue(numThreads);
+        }
+        // Log and continue with default
+        err.println("ballerina: unsupported scheduler policy '" + schedulerPolicyConf + "' in system variable:" +
+                            RuntimeConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR + ", using '" + GLOBAL_QUEUE_POLICY +
+                            "'");
+        return new GlobalRunnableQueue();
+    }
+
     public static Strand getStrand() {
         Strand strand = strandHolder.get().strand;
         if (strand == null) {
@@ -164,11 +231,58 @@ public class Scheduler {
         future.strand.strandGroup = parent.strandGroup;
         parent.strandGroup.add(item);
         if (parent.strandGroup.scheduled.compareAndSet(false, true)) {
-            runnableList.add(future.strand.strandGroup);
+            runnableList.addLocal(future.strand.strandGroup);
         }
         return future;
     }
 
+    /**
+     * Runs the given function pointer on the strand of the given future in the calling thread, instead of adding it
+     * to the runnable list. If the function yields, the strand is handed over to the scheduler in the strand group of
+     * the parent, same as {@link #scheduleLocal(Object[], BFunctionPointer, Strand, FutureValue)}, and the given
+     * callback is notified once it completes.
+     *
+     * @param params        parameters to the function pointer
+     * @param fp            function pointer to be executed
+     * @param parent        parent strand, which must be the strand executing in the calling thread or blocked
+     * @param future        future created for the invocation, without a callback
+     * @param yieldCallback callback to notify if the function does not complete without yielding
+     * @return true if the function completed without yielding, in which case the future holds the result or panic
+     */
+    public boolean runLocal(Object[] params, BFunctionPointer<?, ?> fp, Strand parent, FutureValue future,
+                            Callback yieldCallback) {
+        params[0] = future.strand;
+        SchedulerItem item = new SchedulerItem(fp.getFunction(), params, future);
+        future.strand.schedulerItem = item;
+        totalStrands.incrementAndGet();
+        future.strand.strandGroup = parent.strandGroup;
+
+        StrandHolder holder = strandHolder.get();
+        Strand current = holder.strand;
+        Object result = null;
+        Throwable panic = null;
+        try {
+            holder.strand = future.strand;
+            result = item.execute();
+        } catch (Throwable e) {
+            panic = createError(e);
+            notifyChannels(item, panic);
+            if (!(panic instanceof BError)) {
+                RuntimeUtils.printCrashLog(panic);
+            }
+        } finally {
+            holder.strand = current;
+        }
+
+        boolean completed = !item.isYielded();
+        if (!completed) {
+            // the strand cannot be rescheduled before it is post processed, so the callback is set in time
+            future.callback = yieldCallback;
+        }
+        postProcess(item, result, panic);
+        return completed;
+    }
+
     public FutureValue scheduleToObjectGroup(BObject object, Object[] params, Function function, Strand parent,
                                              Callback callback, Map<String, Object> properties, Type returnType,
                                              String strandName, StrandMetadata metadata) {
@@ -280,12 +394,23 @@ public class Scheduler {
         return future;
     }
 
+    boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
     public void start() {
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
-        for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+        if (virtualThreads) {
+            // The calling thread is a platform thread, so it only waits for the virtual workers to finish.
+            for (int i = 0; i < numThreads; i++) {
+                VirtualThreadFactory.newThread("jbal-strand-exec-" + i, this::runSafely).start();
+            }
+        } else {
+            for (int i = 0; i < numThreads - 1; i++) {
+                new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            }
+            this.runSafely();
         }
-        this.runSafely();
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
@@ -308,6 +433,7 @@ public class Scheduler {
      * Executes tasks that are submitted to the Scheduler.
      */
     private void run() {
+        runnableList.registerWorker();
         while (true) {
             SchedulerItem item;
             ItemGroup group;
@@ -470,7 +596,10 @@ public class Scheduler {
 
     private void cleanUp(Strand justCompleted) {
         justCompleted.scheduler = null;
-        justCompleted.frames = null;
+        if (justCompleted.frames != null) {
+            StrandFramePool.release(justCompleted.frames);
+            justCompleted.frames = null;
+        }
         justCompleted.waitingContexts = null;
         //TODO: more cleanup , eg channels
     }
@@ -506,7 +635,7 @@ public class Scheduler {
             //  2) All others have finished
             // In this case we need to put it back in the runnable list.
             if (group.scheduled.compareAndSet(false, true)) {
-                runnableList.add(group);
+                runnableList.addLocal(group);
             }
         }
     }
@@ -525,9 +654,7 @@ public class Scheduler {
     }
 
     private FutureValue createFuture(Strand parent, Callback callback, Type constraint, Strand newStrand) {
-        FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Object[100];
-        return future;
+        return new FutureValue(newStrand, callback, constraint);
     }
 
     public void poison() {
@@ -127,6 +127,21 @@ public class Strand {
             this.currentTrxContext = createTrxContextBranch(currentTrxContext, name);
         }
     }
+
+    /**
+     * Saves the frame of a function that is yielding. Called from the generated code.
+     *
+     * @param frame frame of the yielding function
+     */
+    public void pushFrame(Object frame) {
+        if (frames == null) {
+            frames = StrandFramePool.acquire();
+        } else if (resumeIndex == frames.length) {
+            frames = StrandFramePool.grow(frames);
+        }
+        frames[resumeIndex++] = frame;
+    }
+
     private TransactionLocalContext createTrxContextBranch(TransactionLocalContext currentTrxContext,
                                                            String strandName) {
         TransactionLocalContext trxCtx = TransactionLocalContext
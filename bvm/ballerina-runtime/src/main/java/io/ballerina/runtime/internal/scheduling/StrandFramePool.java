@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per thread pool of the arrays used to keep the frames of a yielded strand.
+ * <p>
+ * A strand gets a frame array only when it yields for the first time, and the array grows when the yield depth
+ * exceeds its length. Arrays of the initial size are returned to the pool of the scheduler thread that completed
+ * the strand, so short-lived strands that yield reuse the same arrays instead of allocating new ones.
+ *
+ * @since 2.0.0
+ */
+public class StrandFramePool {
+
+    static final int INITIAL_FRAME_ARRAY_SIZE = 16;
+    private static final int MAX_POOLED_ARRAYS_PER_THREAD = 64;
+
+    private static final ThreadLocal<ArrayDeque<Object[]>> pool = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private static final LongAdder allocatedArrays = new LongAdder();
+    private static final LongAdder reusedArrays = new LongAdder();
+    private static final LongAdder grownArrays = new LongAdder();
+
+    private StrandFramePool() {
+    }
+
+    static Object[] acquire() {
+        Object[] frames = pool.get().pollFirst();
+        if (frames != null) {
+            reusedArrays.increment();
+            return frames;
+        }
+        allocatedArrays.increment();
+        return new Object[INITIAL_FRAME_ARRAY_SIZE];
+    }
+
+    static Object[] grow(Object[] frames) {
+        grownArrays.increment();
+        return Arrays.copyOf(frames, frames.length * 2);
+    }
+
+    static void release(Object[] frames) {
+        if (frames.length != INITIAL_FRAME_ARRAY_SIZE) {
+            // grown arrays are left to the GC to avoid retaining deep stacks
+            return;
+        }
+        ArrayDeque<Object[]> threadPool = pool.get();
+        if (threadPool.size() < MAX_POOLED_ARRAYS_PER_THREAD) {
+            Arrays.fill(frames, null);
+            threadPool.addFirst(frames);
+        }
+    }
+
+    /**
+     * Returns the number of frame arrays allocated since the start of the program.
+     *
+     * @return allocated frame array count
+     */
+    public static long getAllocatedArrayCount() {
+        return allocatedArrays.sum();
+    }
+
+    /**
+     * Returns the number of times a pooled frame array was reused instead of allocating a new one.
+     *
+     * @return reused frame array count
+     */
+    public static long getReusedArrayCount() {
+        return reusedArrays.sum();
+    }
+
+    /**
+     * Returns the number of times a frame array was grown because the yield depth exceeded its length.
+     *
+     * @return grown frame array count
+     */
+    public static long getGrownArrayCount() {
+        return grownArrays.sum();
+    }
+}
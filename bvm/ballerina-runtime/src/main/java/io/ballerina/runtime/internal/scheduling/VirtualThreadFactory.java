@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.lang.reflect.Method;
+
+/**
+ * Creates JDK virtual threads for the scheduler when the running JVM supports them.
+ * <p>
+ * The runtime is compiled against Java 11, so the {@code Thread.ofVirtual()} builder API is looked up reflectively
+ * once. When it is not available {@link #isSupported()} returns false and the scheduler keeps using platform
+ * threads.
+ *
+ * @since 2.0.0
+ */
+class VirtualThreadFactory {
+
+    private static final Method OF_VIRTUAL;
+    private static final Method NAME;
+    private static final Method UNSTARTED;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method unstarted = null;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            name = builderClass.getMethod("name", String.class);
+            unstarted = builderClass.getMethod("unstarted", Runnable.class);
+        } catch (ReflectiveOperationException e) {
+            // virtual threads are not supported by this JVM
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        UNSTARTED = unstarted;
+    }
+
+    private VirtualThreadFactory() {
+    }
+
+    static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates an unstarted virtual thread.
+     *
+     * @param name     name of the thread
+     * @param runnable task to run on the thread
+     * @return the unstarted thread
+     */
+    static Thread newThread(String name, Runnable runnable) {
+        try {
+            Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), name);
+            return (Thread) UNSTARTED.invoke(builder, runnable);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("failed to create a virtual thread", e);
+        }
+    }
+}
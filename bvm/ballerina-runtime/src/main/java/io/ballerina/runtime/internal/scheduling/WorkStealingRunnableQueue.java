@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link RunnableQueue} that keeps a deque per scheduler thread to avoid contending on a single queue.
+ * <p>
+ * A worker pushes local and rescheduled groups to the head of its own deque and pops from the head, so the most
+ * recently touched group runs next. Groups created by a worker are appended to the tail of its deque, and groups
+ * submitted from non-worker threads go to a shared submission queue. A worker that runs out of local work polls the
+ * submission queue and then steals from the tail of the other workers' deques starting at a random victim. Workers
+ * that find nothing park until a new group is added.
+ * <p>
+ * A group is always executed as a whole by the worker that took it, so the guarantee that the items of an
+ * {@link ItemGroup} run on the same thread is preserved.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunnableQueue implements RunnableQueue {
+
+    private final AtomicReferenceArray<Worker> workers;
+    private final AtomicInteger registeredWorkers = new AtomicInteger();
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+    private final Queue<ItemGroup> submissionQueue = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
+
+    WorkStealingRunnableQueue(int numWorkers) {
+        this.workers = new AtomicReferenceArray<>(numWorkers);
+    }
+
+    @Override
+    public void registerWorker() {
+        int id = registeredWorkers.getAndIncrement();
+        if (id >= workers.length()) {
+            throw new IllegalStateException("number of scheduler threads exceeds the configured pool size: " +
+                                                    workers.length());
+        }
+        Worker worker = new Worker(Thread.currentThread());
+        workers.set(id, worker);
+        currentWorker.set(worker);
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        Worker worker = currentWorker.get();
+        if (worker == null) {
+            submissionQueue.add(group);
+        } else {
+            worker.deque.addLast(group);
+        }
+        signalIdleWorker();
+    }
+
+    @Override
+    public void addLocal(ItemGroup group) {
+        Worker worker = currentWorker.get();
+        if (worker == null) {
+            submissionQueue.add(group);
+        } else {
+            worker.deque.addFirst(group);
+        }
+        signalIdleWorker();
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        Worker worker = currentWorker.get();
+        if (worker == null) {
+            throw new IllegalStateException("thread is not registered as a scheduler worker");
+        }
+        while (true) {
+            ItemGroup group = poll(worker);
+            if (group != null) {
+                return group;
+            }
+
+            // Mark idle before re-checking, so that a concurrent add either sees this worker as idle or this
+            // worker sees the added group.
+            worker.idle.set(true);
+            idleWorkers.incrementAndGet();
+            group = poll(worker);
+            if (group != null) {
+                if (worker.idle.compareAndSet(true, false)) {
+                    idleWorkers.decrementAndGet();
+                } else {
+                    // We consumed a wake up meant for another group, pass it on.
+                    signalIdleWorker();
+                }
+                return group;
+            }
+
+            while (worker.idle.get()) {
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    if (worker.idle.compareAndSet(true, false)) {
+                        idleWorkers.decrementAndGet();
+                    }
+                    throw new InterruptedException();
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!submissionQueue.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < workers.length(); i++) {
+            Worker worker = workers.get(i);
+            if (worker != null && !worker.deque.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ItemGroup poll(Worker worker) {
+        ItemGroup group = worker.deque.pollFirst();
+        if (group != null) {
+            return group;
+        }
+        group = submissionQueue.poll();
+        if (group != null) {
+            return group;
+        }
+        return steal(worker);
+    }
+
+    private ItemGroup steal(Worker thief) {
+        int numWorkers = workers.length();
+        int start = ThreadLocalRandom.current().nextInt(numWorkers);
+        for (int i = 0; i < numWorkers; i++) {
+            Worker victim = workers.get((start + i) % numWorkers);
+            if (victim == null || victim == thief) {
+                continue;
+            }
+            ItemGroup group = victim.deque.pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void signalIdleWorker() {
+        if (idleWorkers.get() == 0) {
+            return;
+        }
+        int numWorkers = workers.length();
+        int start = ThreadLocalRandom.current().nextInt(numWorkers);
+        for (int i = 0; i < numWorkers; i++) {
+            Worker worker = workers.get((start + i) % numWorkers);
+            if (worker != null && worker.idle.get() && worker.idle.compareAndSet(true, false)) {
+                idleWorkers.decrementAndGet();
+                LockSupport.unpark(worker.thread);
+                return;
+            }
+        }
+    }
+
+    /**
+     * State of a single scheduler thread.
+     */
+    private static class Worker {
+
+        final Thread thread;
+        final Deque<ItemGroup> deque = new ConcurrentLinkedDeque<>();
+        final AtomicBoolean idle = new AtomicBoolean(false);
+
+        Worker(Thread thread) {
+            this.thread = thread;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.types.ErrorType;
 import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.IdentifierUtils;
+import io.ballerina.runtime.internal.TypeRelationCache;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
 import java.util.Optional;
@@ -49,6 +50,7 @@ public class BErrorType extends BAnnotatableType implements ErrorType {
 
     public void setTypeIdSet(BTypeIdSet typeIdSet) {
         this.typeIdSet = typeIdSet;
+        TypeRelationCache.invalidate();
     }
 
     @Override
@@ -68,6 +70,7 @@ public class BErrorType extends BAnnotatableType implements ErrorType {
 
     public void setDetailType(Type detailType) {
         this.detailType = detailType;
+        TypeRelationCache.invalidate();
     }
 
     @Override
@@ -26,6 +26,7 @@ import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.MethodType;
 import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.api.utils.IdentifierUtils;
+import io.ballerina.runtime.internal.TypeRelationCache;
 
 import java.lang.reflect.Array;
 import java.util.Map.Entry;
@@ -89,6 +90,7 @@ public class BObjectType extends BStructureType implements ObjectType {
 
     public void setMethods(MethodType[] methodTypes) {
         this.methodTypes = methodTypes;
+        TypeRelationCache.invalidate();
     }
 
     public void setInitializer(BMethodType initializer) {
@@ -156,6 +158,7 @@ public class BObjectType extends BStructureType implements ObjectType {
 
     public void setTypeIdSet(BTypeIdSet typeIdSet) {
         this.typeIdSet = typeIdSet;
+        TypeRelationCache.invalidate();
     }
 
     public BObjectType duplicate() {
@@ -34,6 +34,7 @@ import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
 import io.ballerina.runtime.internal.values.ReadOnlyUtils;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -51,6 +52,7 @@ public class BRecordType extends BStructureType implements RecordType {
     private final boolean readonly;
     private IntersectionType immutableType;
     private IntersectionType intersectionType = null;
+    private volatile Map<String, Type> fieldTypes;
 
     /**
      * Create a {@code BRecordType} which represents the user defined record type.
@@ -109,6 +111,31 @@ public class BRecordType extends BStructureType implements RecordType {
         return fieldMap;
     }
 
+    @Override
+    public void setFields(Map<String, Field> fields) {
+        super.setFields(fields);
+        this.fieldTypes = null;
+    }
+
+    /**
+     * Returns the types of the fields of this record type by field name. The map is built on first use and shared
+     * by the conversions to this type, instead of being rebuilt for every value converted.
+     *
+     * @return unmodifiable map of field names to field types
+     */
+    public Map<String, Type> getFieldTypes() {
+        Map<String, Type> fieldTypes = this.fieldTypes;
+        if (fieldTypes == null) {
+            Map<String, Type> types = new HashMap<>(fields.size());
+            for (Map.Entry<String, Field> field : fields.entrySet()) {
+                types.put(field.getKey(), field.getValue().getFieldType());
+            }
+            fieldTypes = Collections.unmodifiableMap(types);
+            this.fieldTypes = fieldTypes;
+        }
+        return fieldTypes;
+    }
+
     @Override
     public <V extends Object> V getZeroValue() {
         return (V) ValueCreator.createRecordValue(this.pkg, this.typeName);
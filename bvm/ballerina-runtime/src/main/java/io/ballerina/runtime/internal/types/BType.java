@@ -25,6 +25,7 @@ import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@code BType} represents a type in Ballerina.
@@ -37,10 +38,14 @@ import java.util.Objects;
  * @since 0.995.0
  */
 public abstract class BType implements Type {
+    private static final AtomicInteger nextIdentity = new AtomicInteger();
+
     protected String typeName;
     protected Module pkg;
     protected Class<? extends Object> valueClass;
     private int hashCode;
+    // Number identifying this type instance, used to look up the results of type checks involving this type
+    private final int identity = nextIdentity.incrementAndGet();
 
     protected BType(String typeName, Module pkg, Class<? extends Object> valueClass) {
         this.typeName = typeName;
@@ -51,6 +56,10 @@ public abstract class BType implements Type {
         }
     }
 
+    public int getIdentity() {
+        return identity;
+    }
+
     @SuppressWarnings("unchecked")
     public <V extends Object> Class<V> getValueClass() {
         return (Class<V>) valueClass;
@@ -25,6 +25,7 @@ import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.SelectivelyImmutableReferenceType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.internal.TypeRelationCache;
 import io.ballerina.runtime.internal.values.ReadOnlyUtils;
 
 import java.util.ArrayList;
@@ -153,6 +154,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         }
         this.memberTypes = readonly ? getReadOnlyTypes(members) : Arrays.asList(members);
         setFlagsBasedOnMembers();
+        TypeRelationCache.invalidate();
     }
 
     public void setOriginalMemberTypes(Type[] originalMemberTypes) {
@@ -225,6 +227,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         this.memberTypes.addAll(Arrays.asList(types));
         setFlagsBasedOnMembers();
         this.originalMemberTypes.addAll(Arrays.asList(types));
+        TypeRelationCache.invalidate();
     }
 
     private void setFlagsBasedOnMembers() {
@@ -454,6 +457,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
             this.addMember(member);
         }
         setFlagsBasedOnMembers();
+        TypeRelationCache.invalidate();
     }
 
     public void computeStringRepresentation() {
@@ -59,7 +59,7 @@ public abstract class AbstractObjectValue implements ObjectValue {
 
     private BObjectType type;
 
-    private final HashMap<String, Object> nativeData = new HashMap<>();
+    private HashMap<String, Object> nativeData;
 
     public AbstractObjectValue(BObjectType type) {
         this.type = type;
@@ -67,16 +67,23 @@ public abstract class AbstractObjectValue implements ObjectValue {
 
     @Override
     public void addNativeData(String key, Object data) {
-        this.nativeData.put(key, data);
+        getNativeData().put(key, data);
     }
 
     @Override
     public Object getNativeData(String key) {
+        if (this.nativeData == null) {
+            return null;
+        }
         return this.nativeData.get(key);
     }
 
     @Override
     public HashMap<String, Object> getNativeData() {
+        // Allocated on first use, since most objects never carry native data.
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
         return nativeData;
     }
 
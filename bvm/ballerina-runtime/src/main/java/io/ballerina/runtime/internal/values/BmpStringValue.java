@@ -44,8 +44,11 @@ import io.ballerina.runtime.api.values.BString;
      @Override
      public BString concat(BString str) {
          StringValue stringValue = (StringValue) str;
+         if (value.length() + str.getValue().length() >= ConcatenatedStringValue.MIN_LENGTH) {
+             return ConcatenatedStringValue.concat(this, stringValue);
+         }
          if (stringValue.isNonBmp) {
-             int[] otherSurrogates = ((NonBmpStringValue) str).getSurrogates();
+             int[] otherSurrogates = stringValue.getSurrogates();
              int[] newSurrogates = new int[otherSurrogates.length];
              int length = length();
              for (int i = 0; i < otherSurrogates.length; i++) {
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BLink;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Arrays;
+
+/**
+ * Represent ballerina strings built by concatenation, whose characters are kept in a buffer shared with the strings
+ * they were concatenated from.
+ * <p>
+ * Each value holds a prefix of the buffer. Concatenating to the value holding the whole buffer appends to the buffer
+ * in place, so building a string by repeated concatenation takes linear time instead of copying the string built so
+ * far on every concatenation. Concatenating to any other value copies its prefix to a new buffer. The characters are
+ * only copied out of the buffer when the value of the string is needed, after which the value no longer refers to the
+ * buffer, so a prefix kept after more was appended to its buffer does not keep the longer buffer reachable.
+ *
+ * @since 2.0.0
+ */
+public class ConcatenatedStringValue extends StringValue {
+
+    /**
+     * Minimum number of characters in the result of a concatenation for it to be kept in a shared buffer. Shorter
+     * results are cheaper to copy than to share.
+     */
+    static final int MIN_LENGTH = 256;
+
+    private static final int[] NO_SURROGATES = new int[0];
+
+    // Cleared once the value is flattened. Set after the flattened value, so that a thread which sees it cleared also
+    // sees the flattened value.
+    private volatile Buffer buffer;
+    private final int charCount;
+    private final int surrogateCount;
+    private StringValue flattened;
+
+    private ConcatenatedStringValue(Buffer buffer, int charCount, int surrogateCount) {
+        super(null, surrogateCount > 0);
+        this.buffer = buffer;
+        this.charCount = charCount;
+        this.surrogateCount = surrogateCount;
+    }
+
+    /**
+     * Concatenates two strings into a new shared buffer.
+     *
+     * @param first  first string
+     * @param second second string
+     * @return the concatenated string
+     */
+    static ConcatenatedStringValue concat(StringValue first, StringValue second) {
+        String firstValue = first.getValue();
+        String secondValue = second.getValue();
+        Buffer buffer = new Buffer(firstValue.length() + secondValue.length());
+        buffer.append(0, firstValue, first.getSurrogates());
+        buffer.append(firstValue.length(), secondValue, second.getSurrogates());
+        return new ConcatenatedStringValue(buffer, buffer.chars.length(), buffer.surrogateCount);
+    }
+
+    @Override
+    public BString concat(BString str) {
+        StringValue other = (StringValue) str;
+        String otherValue = other.getValue();
+        int[] otherSurrogates = other.getSurrogates();
+        Buffer buffer = this.buffer;
+        if (buffer != null && buffer.append(charCount, otherValue, otherSurrogates)) {
+            return new ConcatenatedStringValue(buffer, charCount + otherValue.length(),
+                                               surrogateCount + otherSurrogates.length);
+        }
+        return concat(this, other);
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().value;
+    }
+
+    @Override
+    int[] getSurrogates() {
+        if (surrogateCount == 0) {
+            return NO_SURROGATES;
+        }
+        Buffer buffer = this.buffer;
+        return buffer != null ? buffer.getSurrogates(surrogateCount) : flatten().getSurrogates();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return charCount - surrogateCount;
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public IteratorValue getIterator() {
+        return flatten().getIterator();
+    }
+
+    @Override
+    public String stringValue(BLink parent) {
+        return getValue();
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString) {
+            return ((BString) str).getValue().equals(getValue());
+        }
+        return false;
+    }
+
+    private StringValue flatten() {
+        StringValue flattened = this.flattened;
+        if (flattened != null) {
+            return flattened;
+        }
+        Buffer buffer = this.buffer;
+        if (buffer == null) {
+            return this.flattened;
+        }
+        String value = buffer.substring(charCount);
+        flattened = surrogateCount == 0 ? new BmpStringValue(value) :
+                new NonBmpStringValue(value, buffer.getSurrogates(surrogateCount));
+        // String values are immutable, so the flattened value can be published without synchronization
+        this.flattened = flattened;
+        this.buffer = null;
+        return flattened;
+    }
+
+    /**
+     * Characters shared by the strings concatenated from the same string, along with the positions of the surrogate
+     * pairs among them in code points.
+     */
+    private static class Buffer {
+
+        private final StringBuilder chars;
+        private int[] surrogates = NO_SURROGATES;
+        private int surrogateCount;
+
+        private Buffer(int capacity) {
+            this.chars = new StringBuilder(capacity + (capacity >> 1));
+        }
+
+        /**
+         * Appends the given characters if the buffer holds exactly the given number of characters, that is, if no
+         * other string has been concatenated to the string appending them.
+         */
+        private synchronized boolean append(int expectedCharCount, String value, int[] valueSurrogates) {
+            if (chars.length() != expectedCharCount) {
+                return false;
+            }
+            if (valueSurrogates.length > 0) {
+                int codePointCount = chars.length() - surrogateCount;
+                if (surrogateCount + valueSurrogates.length > surrogates.length) {
+                    surrogates = Arrays.copyOf(surrogates, Math.max(surrogates.length * 2,
+                                                                    surrogateCount + valueSurrogates.length));
+                }
+                for (int surrogate : valueSurrogates) {
+                    surrogates[surrogateCount++] = surrogate + codePointCount;
+                }
+            }
+            chars.append(value);
+            return true;
+        }
+
+        private synchronized String substring(int charCount) {
+            return chars.substring(0, charCount);
+        }
+
+        private synchronized int[] getSurrogates(int count) {
+            return Arrays.copyOf(surrogates, count);
+        }
+    }
+}
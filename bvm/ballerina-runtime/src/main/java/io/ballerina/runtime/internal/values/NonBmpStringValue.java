@@ -63,14 +63,17 @@ import java.util.Arrays;
     @Override
     public BString concat(BString str) {
         StringValue stringValue = (StringValue) str;
+        if (value.length() + str.getValue().length() >= ConcatenatedStringValue.MIN_LENGTH) {
+            return ConcatenatedStringValue.concat(this, stringValue);
+        }
         if (stringValue.isNonBmp) {
-            NonBmpStringValue other = (NonBmpStringValue) str;
-            int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
+            int[] otherSurrogates = stringValue.getSurrogates();
+            int[] both = Arrays.copyOf(surrogates, surrogates.length + otherSurrogates.length);
             int length = length();
-            for (int i = 0; i < other.surrogates.length; i++) {
-                both[i + surrogates.length] = other.surrogates[i] + length;
+            for (int i = 0; i < otherSurrogates.length; i++) {
+                both[i + surrogates.length] = otherSurrogates[i] + length;
             }
-            return new NonBmpStringValue(this.value + other.value, both);
+            return new NonBmpStringValue(this.value + str.getValue(), both);
         }
         return new NonBmpStringValue(this.value + str.getValue(), surrogates);
     }
@@ -82,33 +85,21 @@ import java.util.Arrays;
      @Override
      public Long indexOf(BString str, int fromIndex) {
          int offset = getOffset(fromIndex);
-         long index = value.indexOf(str.getValue(), offset);
-         if (index < 0) {
+         int charIndex = value.indexOf(str.getValue(), offset);
+         if (charIndex < 0) {
              return null;
          }
-         for (int i = 0; i < index; i++) {
-             char c = value.charAt(i);
-             if (Character.isHighSurrogate(c)) {
-                 index--;
-             }
-         }
-         return index;
+         return getCodePointIndex(charIndex);
      }
 
      @Override
      public Long lastIndexOf(BString str, int fromIndex) {
          int offset = getOffset(fromIndex);
-         long index = value.lastIndexOf(str.getValue(), offset);
-         if (index < 0) {
+         int charIndex = value.lastIndexOf(str.getValue(), offset);
+         if (charIndex < 0) {
              return null;
          }
-         for (int i = 0; i < index; i++) {
-             char c = value.charAt(i);
-             if (Character.isHighSurrogate(c)) {
-                 index--;
-             }
-         }
-         return index;
+         return getCodePointIndex(charIndex);
      }
      @Override
      public BString substring(int beginIndex, int endIndex) {
@@ -117,6 +108,16 @@ import java.util.Arrays;
          return StringUtils.fromString(value.substring(beginOffset, endOffset));
      }
 
+     private long getCodePointIndex(int charIndex) {
+         long index = charIndex;
+         for (int i = 0; i < charIndex; i++) {
+             if (Character.isHighSurrogate(value.charAt(i))) {
+                 index--;
+             }
+         }
+         return index;
+     }
+
      private int getOffset(int fromIndex) {
          int offset = fromIndex;
          for (int surrogate : surrogates) {
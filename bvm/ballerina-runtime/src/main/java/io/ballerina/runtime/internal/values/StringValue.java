@@ -64,6 +64,15 @@ public abstract class StringValue implements BString, SimpleValue {
         return value;
     }
 
+    /**
+     * Returns the code point indexes of the characters of this string that are represented by surrogate pairs.
+     *
+     * @return indexes of the surrogate pairs
+     */
+    int[] getSurrogates() {
+        return new int[0];
+    }
+
     @Override
     public String stringValue(BLink parent) {
         return value;
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Secondary index on a field of the rows of a table.
+ * <p>
+ * A hash index supports lookups by field value, and a sorted index additionally supports lookups by a range of field
+ * values. Rows are returned in the order of the table, which is tracked through the row sequence numbers of the
+ * {@link TableRowStore}. Indexes are only created for fields that cannot be updated once the row is in the table, so
+ * they are kept up to date by the table updates alone.
+ *
+ * @since 2.0.0
+ */
+final class TableFieldIndex {
+
+    private static final String ASCENDING = "ascending";
+
+    private final BString fieldName;
+    private final Map<Object, Bucket> buckets;
+
+    TableFieldIndex(BString fieldName, boolean sorted) {
+        this.fieldName = fieldName;
+        this.buckets = sorted ?
+                new TreeMap<>((lhs, rhs) -> ValueComparisonUtils.compareValues(lhs, rhs, ASCENDING)) :
+                new HashMap<>();
+    }
+
+    boolean isSorted() {
+        return buckets instanceof TreeMap;
+    }
+
+    void add(Object row, long sequence) {
+        buckets.computeIfAbsent(getFieldValue(row), value -> new Bucket()).add(row, sequence);
+    }
+
+    void remove(Object row, long sequence) {
+        Object value = getFieldValue(row);
+        Bucket bucket = buckets.get(value);
+        if (bucket != null && bucket.remove(sequence) && bucket.size == 0) {
+            buckets.remove(value);
+        }
+    }
+
+    void clear() {
+        buckets.clear();
+    }
+
+    List<Object> get(Object value) {
+        Bucket bucket = buckets.get(value);
+        List<Object> rows = new ArrayList<>(bucket == null ? 0 : bucket.size);
+        if (bucket != null) {
+            rows.addAll(Arrays.asList(bucket.rows).subList(0, bucket.size));
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the rows with a field value in the given range. A null bound leaves that end of the range open.
+     */
+    List<Object> getRange(Object lowerBound, boolean lowerInclusive, Object upperBound, boolean upperInclusive) {
+        NavigableMap<Object, Bucket> sortedBuckets = (NavigableMap<Object, Bucket>) buckets;
+        if (lowerBound != null && upperBound != null &&
+                ValueComparisonUtils.compareValues(lowerBound, upperBound, ASCENDING) > 0) {
+            return new ArrayList<>();
+        }
+        if (lowerBound != null) {
+            sortedBuckets = sortedBuckets.tailMap(lowerBound, lowerInclusive);
+        }
+        if (upperBound != null) {
+            sortedBuckets = sortedBuckets.headMap(upperBound, upperInclusive);
+        }
+        return merge(sortedBuckets.values());
+    }
+
+    private Object getFieldValue(Object row) {
+        return ((MapValue<?, ?>) row).get(fieldName);
+    }
+
+    // Merges the buckets back into the order of the table
+    private static List<Object> merge(Collection<Bucket> buckets) {
+        int size = 0;
+        for (Bucket bucket : buckets) {
+            size += bucket.size;
+        }
+        long[] sequences = new long[size];
+        Object[] rows = new Object[size];
+        int i = 0;
+        for (Bucket bucket : buckets) {
+            System.arraycopy(bucket.sequences, 0, sequences, i, bucket.size);
+            System.arraycopy(bucket.rows, 0, rows, i, bucket.size);
+            i += bucket.size;
+        }
+        Integer[] order = new Integer[size];
+        for (i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (lhs, rhs) -> Long.compare(sequences[lhs], sequences[rhs]));
+        List<Object> result = new ArrayList<>(size);
+        for (Integer index : order) {
+            result.add(rows[index]);
+        }
+        return result;
+    }
+
+    /**
+     * Rows with the same field value, ordered by their sequence numbers.
+     */
+    private static final class Bucket {
+
+        private Object[] rows = new Object[1];
+        private long[] sequences = new long[1];
+        private int size;
+
+        void add(Object row, long sequence) {
+            int index = Arrays.binarySearch(sequences, 0, size, sequence);
+            if (index >= 0) {
+                rows[index] = row;
+                return;
+            }
+            index = -(index + 1);
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+                sequences = Arrays.copyOf(sequences, size * 2);
+            }
+            System.arraycopy(rows, index, rows, index + 1, size - index);
+            System.arraycopy(sequences, index, sequences, index + 1, size - index);
+            rows[index] = row;
+            sequences[index] = sequence;
+            size++;
+        }
+
+        boolean remove(long sequence) {
+            int index = Arrays.binarySearch(sequences, 0, size, sequence);
+            if (index < 0) {
+                return false;
+            }
+            size--;
+            System.arraycopy(rows, index + 1, rows, index, size - index);
+            System.arraycopy(sequences, index + 1, sequences, index, size - index);
+            rows[size] = null;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Insertion ordered storage of the rows of a table.
+ * <p>
+ * Rows are kept in dense arrays in the order they were added. Removed rows leave an empty slot behind, which is
+ * reclaimed when the arrays are compacted. Rows of keyed tables are looked up through an open addressing hash table
+ * that maps the key hash to the row slot, and keys with the same hash are told apart using value equality.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the rows
+ *
+ * @since 2.0.0
+ */
+final class TableRowStore<K, V> {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int EMPTY = 0;
+    private static final int DELETED = -1;
+
+    private final boolean keyed;
+    private Object[] rows;
+    private Object[] keys;
+    private int[] hashes;
+    // Sequence number of the row in each slot, which lets cursors resume after the slots are compacted
+    private long[] sequences;
+    private long nextSequence;
+    private int end;
+    private int size;
+    private int compactions;
+
+    // Row slot + 1 of each entry, or EMPTY or DELETED
+    private int[] index;
+    private int usedIndexEntries;
+
+    private Map<BString, TableFieldIndex> fieldIndexes;
+
+    TableRowStore(boolean keyed) {
+        this.keyed = keyed;
+        init();
+    }
+
+    private void init() {
+        rows = new Object[INITIAL_CAPACITY];
+        sequences = new long[INITIAL_CAPACITY];
+        if (keyed) {
+            keys = new Object[INITIAL_CAPACITY];
+            hashes = new int[INITIAL_CAPACITY];
+            index = new int[INITIAL_CAPACITY * 2];
+        }
+        end = 0;
+        size = 0;
+        usedIndexEntries = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Finds the slot of the row with the given key.
+     *
+     * @param key  the key
+     * @param hash the hash of the key, generated by {@code TableUtils.hash}
+     * @return the slot of the row, or -1 if there is no row for the key
+     */
+    int find(Object key, long hash) {
+        int keyHash = toIntHash(hash);
+        int mask = index.length - 1;
+        for (int i = keyHash & mask; ; i = (i + 1) & mask) {
+            int entry = index[i];
+            if (entry == EMPTY) {
+                return -1;
+            }
+            if (entry != DELETED) {
+                int slot = entry - 1;
+                if (hashes[slot] == keyHash && isSameKey(keys[slot], key)) {
+                    return slot;
+                }
+            }
+        }
+    }
+
+    V getRow(int slot) {
+        return (V) rows[slot];
+    }
+
+    K getKey(int slot) {
+        return (K) (keyed ? keys[slot] : rows[slot]);
+    }
+
+    V replace(int slot, K key, V row) {
+        V previous = (V) rows[slot];
+        removeFromFieldIndexes(slot);
+        keys[slot] = key;
+        rows[slot] = row;
+        addToFieldIndexes(slot);
+        return previous;
+    }
+
+    /**
+     * Appends a row to a keyed table. The caller is expected to have checked that there is no row for the key.
+     *
+     * @param key  the key
+     * @param hash the hash of the key, generated by {@code TableUtils.hash}
+     * @param row  the row
+     */
+    void append(K key, long hash, V row) {
+        ensureCapacity();
+        // Rebuilds the index before the row is written, since the rebuild indexes every row in use
+        if (usedIndexEntries + 1 > index.length / 2) {
+            rebuildIndex(index.length);
+        }
+        int slot = end++;
+        int keyHash = toIntHash(hash);
+        rows[slot] = row;
+        keys[slot] = key;
+        hashes[slot] = keyHash;
+        sequences[slot] = nextSequence++;
+        size++;
+        addToIndex(slot, keyHash);
+        addToFieldIndexes(slot);
+    }
+
+    /**
+     * Appends a row to a keyless table.
+     *
+     * @param row the row
+     */
+    void append(V row) {
+        ensureCapacity();
+        int slot = end++;
+        rows[slot] = row;
+        sequences[slot] = nextSequence++;
+        size++;
+        addToFieldIndexes(slot);
+    }
+
+    V remove(int slot) {
+        V row = (V) rows[slot];
+        removeFromFieldIndexes(slot);
+        if (keyed) {
+            removeFromIndex(slot);
+            keys[slot] = null;
+        }
+        rows[slot] = null;
+        size--;
+        return row;
+    }
+
+    void clear() {
+        init();
+        compactions++;
+        if (fieldIndexes != null) {
+            fieldIndexes.values().forEach(TableFieldIndex::clear);
+        }
+    }
+
+    /**
+     * Returns the index on the given field, creating it from the current rows if it does not exist yet. A sorted
+     * index can be used in place of a hash index, so an existing hash index is only replaced when a sorted one is
+     * requested. Callers hold the lock of the table, since lookups on a read-only table may run on several threads.
+     *
+     * @param fieldName name of the field
+     * @param sorted    whether lookups by a range of values are needed
+     * @return the index
+     */
+    TableFieldIndex getFieldIndex(BString fieldName, boolean sorted) {
+        if (fieldIndexes == null) {
+            fieldIndexes = new HashMap<>();
+        }
+        TableFieldIndex fieldIndex = fieldIndexes.get(fieldName);
+        if (fieldIndex != null && (fieldIndex.isSorted() || !sorted)) {
+            return fieldIndex;
+        }
+        fieldIndex = new TableFieldIndex(fieldName, sorted);
+        for (int slot = 0; slot < end; slot++) {
+            if (rows[slot] != null) {
+                fieldIndex.add(rows[slot], sequences[slot]);
+            }
+        }
+        fieldIndexes.put(fieldName, fieldIndex);
+        return fieldIndex;
+    }
+
+    Collection<V> values() {
+        return new RowCollection();
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    private void ensureCapacity() {
+        if (end < rows.length) {
+            return;
+        }
+
+        // Reclaims the slots of removed rows, and grows only if at least half of the slots are in use
+        int capacity = size >= rows.length / 2 ? rows.length * 2 : rows.length;
+        Object[] newRows = new Object[capacity];
+        long[] newSequences = new long[capacity];
+        Object[] newKeys = keyed ? new Object[capacity] : null;
+        int[] newHashes = keyed ? new int[capacity] : null;
+        int newEnd = 0;
+        for (int slot = 0; slot < end; slot++) {
+            if (rows[slot] == null) {
+                continue;
+            }
+            newRows[newEnd] = rows[slot];
+            newSequences[newEnd] = sequences[slot];
+            if (keyed) {
+                newKeys[newEnd] = keys[slot];
+                newHashes[newEnd] = hashes[slot];
+            }
+            newEnd++;
+        }
+        if (newEnd != end) {
+            compactions++;
+        }
+        rows = newRows;
+        sequences = newSequences;
+        keys = newKeys;
+        hashes = newHashes;
+        end = newEnd;
+        if (keyed) {
+            rebuildIndex(capacity * 2);
+        }
+    }
+
+    private void addToFieldIndexes(int slot) {
+        if (fieldIndexes != null) {
+            for (TableFieldIndex fieldIndex : fieldIndexes.values()) {
+                fieldIndex.add(rows[slot], sequences[slot]);
+            }
+        }
+    }
+
+    private void removeFromFieldIndexes(int slot) {
+        if (fieldIndexes != null) {
+            for (TableFieldIndex fieldIndex : fieldIndexes.values()) {
+                fieldIndex.remove(rows[slot], sequences[slot]);
+            }
+        }
+    }
+
+    private void rebuildIndex(int length) {
+        index = new int[length];
+        usedIndexEntries = 0;
+        for (int slot = 0; slot < end; slot++) {
+            if (rows[slot] != null) {
+                addToIndex(slot, hashes[slot]);
+            }
+        }
+    }
+
+    private void addToIndex(int slot, int keyHash) {
+        int mask = index.length - 1;
+        int i = keyHash & mask;
+        while (index[i] != EMPTY && index[i] != DELETED) {
+            i = (i + 1) & mask;
+        }
+        if (index[i] == EMPTY) {
+            usedIndexEntries++;
+        }
+        index[i] = slot + 1;
+    }
+
+    private void removeFromIndex(int slot) {
+        int mask = index.length - 1;
+        int i = hashes[slot] & mask;
+        while (index[i] != slot + 1) {
+            i = (i + 1) & mask;
+        }
+        index[i] = DELETED;
+    }
+
+    private int findSlotAfter(long sequence) {
+        int slot = Arrays.binarySearch(sequences, 0, end, sequence);
+        return slot >= 0 ? slot + 1 : -(slot + 1);
+    }
+
+    private static int toIntHash(long hash) {
+        int keyHash = (int) (hash ^ (hash >>> 32));
+        return keyHash ^ (keyHash >>> 16);
+    }
+
+    private static boolean isSameKey(Object key, Object other) {
+        return key == other || TypeChecker.isEqual(key, other);
+    }
+
+    /**
+     * Iterates the rows in insertion order. Rows added while iterating are visited, and removed rows are skipped.
+     */
+    final class Cursor {
+
+        private int slot;
+        private long lastSequence = -1;
+        private int expectedCompactions = compactions;
+
+        boolean hasNext() {
+            if (expectedCompactions != compactions) {
+                slot = findSlotAfter(lastSequence);
+                expectedCompactions = compactions;
+            }
+            while (slot < end && rows[slot] == null) {
+                slot++;
+            }
+            return slot < end;
+        }
+
+        /**
+         * Moves to the next row.
+         *
+         * @return the slot of the row
+         */
+        int next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastSequence = sequences[slot];
+            return slot++;
+        }
+    }
+
+    /**
+     * Read only view of the rows, in insertion order.
+     */
+    private final class RowCollection extends AbstractCollection<V> {
+
+        @Override
+        public Iterator<V> iterator() {
+            Cursor cursor = new Cursor();
+            return new Iterator<V>() {
+                @Override
+                public boolean hasNext() {
+                    return cursor.hasNext();
+                }
+
+                @Override
+                public V next() {
+                    return getRow(cursor.next());
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -20,6 +20,7 @@ package io.ballerina.runtime.internal.values;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.Type;
@@ -34,6 +35,8 @@ import io.ballerina.runtime.internal.CycleUtils;
 import io.ballerina.runtime.internal.IteratorUtils;
 import io.ballerina.runtime.internal.TableUtils;
 import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+import io.ballerina.runtime.internal.types.BArrayType;
 import io.ballerina.runtime.internal.types.BIntersectionType;
 import io.ballerina.runtime.internal.types.BMapType;
 import io.ballerina.runtime.internal.types.BRecordType;
@@ -49,14 +52,11 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INHERENT_TYPE_VIOLATION_ERROR_IDENTIFIER;
@@ -77,18 +77,11 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private TableType type;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, Map.Entry<K, V>> entries;
-    private LinkedHashMap<Long, V> values;
-    private LinkedHashMap<Long, K> keys;
+    private TableRowStore<K, V> rows;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, Long> indexToKeyMap;
-    private LinkedHashMap<Long, Long> keyToIndexMap;
-    private long noOfAddedEntries = 0;
-
     private boolean nextKeySupported;
 
     private final Map<String, Object> nativeData = new HashMap<>();
@@ -96,15 +89,12 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     public TableValueImpl(TableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
         this.fieldNames = type.getFieldNames();
         if (type.getFieldNames() != null) {
+            this.rows = new TableRowStore<>(true);
             this.valueHolder = new KeyHashValueHolder();
         } else {
+            this.rows = new TableRowStore<>(false);
             this.valueHolder = new ValueHolder();
         }
     }
@@ -215,23 +205,24 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        return new LinkedHashSet<>(entries.values());
+        Set<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
+        TableRowStore<K, V>.Cursor cursor = rows.cursor();
+        while (cursor.hasNext()) {
+            int slot = cursor.next();
+            entrySet.add(new AbstractMap.SimpleEntry<>(rows.getKey(slot), rows.getRow(slot)));
+        }
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        return values.values();
+        return rows.values();
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        rows.clear();
     }
 
     @Override
@@ -260,13 +251,101 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return rows.size() == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
         return this.valueHolder.getKeyType();
     }
 
+    /**
+     * Returns the rows having the given value for a field, in the order of the table. The lookup is done through a
+     * hash index on the field, which is created on first use and maintained by the table updates from then on. Fields
+     * that can be updated after the row is added to the table are not indexed and are looked up with a scan.
+     *
+     * @param fieldName name of the field
+     * @param value     the field value
+     * @return the matching rows
+     */
+    public ArrayValue getRowsWithFieldValue(BString fieldName, Object value) {
+        List<Object> matchingRows;
+        if (isIndexableField(fieldName)) {
+            // Read-only tables are shared between strands, and the index may be built by this lookup
+            synchronized (this) {
+                matchingRows = rows.getFieldIndex(fieldName, false).get(value);
+            }
+        } else {
+            matchingRows = new ArrayList<>();
+            for (V row : values()) {
+                if (TypeChecker.isEqual(((MapValue<?, ?>) row).get(fieldName), value)) {
+                    matchingRows.add(row);
+                }
+            }
+        }
+        return createRowArray(matchingRows);
+    }
+
+    /**
+     * Returns the rows having a value in the given range for a field, in the order of the table. The lookup is done
+     * through a sorted index on the field, which is created on first use and maintained by the table updates from
+     * then on. Fields that can be updated after the row is added to the table are looked up with a scan.
+     *
+     * @param fieldName      name of the field
+     * @param lowerBound     lower bound of the range, or nil if the range has no lower bound
+     * @param lowerInclusive whether the lower bound is included in the range
+     * @param upperBound     upper bound of the range, or nil if the range has no upper bound
+     * @param upperInclusive whether the upper bound is included in the range
+     * @return the matching rows
+     */
+    public ArrayValue getRowsInFieldRange(BString fieldName, Object lowerBound, boolean lowerInclusive,
+                                          Object upperBound, boolean upperInclusive) {
+        List<Object> matchingRows;
+        if (isIndexableField(fieldName)) {
+            synchronized (this) {
+                matchingRows = rows.getFieldIndex(fieldName, true)
+                        .getRange(lowerBound, lowerInclusive, upperBound, upperInclusive);
+            }
+        } else {
+            matchingRows = new ArrayList<>();
+            for (V row : values()) {
+                Object fieldValue = ((MapValue<?, ?>) row).get(fieldName);
+                if (isInRange(lowerBound, fieldValue, lowerInclusive) &&
+                        isInRange(fieldValue, upperBound, upperInclusive)) {
+                    matchingRows.add(row);
+                }
+            }
+        }
+        return createRowArray(matchingRows);
+    }
+
+    private static boolean isInRange(Object lowerValue, Object upperValue, boolean inclusive) {
+        if (lowerValue == null || upperValue == null) {
+            return true;
+        }
+        int order = ValueComparisonUtils.compareValues(lowerValue, upperValue, "ascending");
+        return inclusive ? order <= 0 : order < 0;
+    }
+
+    private ArrayValue createRowArray(List<Object> matchingRows) {
+        return new ArrayValueImpl(matchingRows.toArray(), new BArrayType(type.getConstrainedType()));
+    }
+
+    // Only fields that cannot change once the row is in the table can be indexed
+    private boolean isIndexableField(BString fieldName) {
+        Type constraintType = type.getConstrainedType();
+        if (constraintType.getTag() == TypeTags.INTERSECTION_TAG) {
+            constraintType = ((BIntersectionType) constraintType).getEffectiveType();
+        }
+        if (constraintType.isReadOnly()) {
+            return true;
+        }
+        if (constraintType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return false;
+        }
+        Field field = ((BRecordType) constraintType).getFields().get(fieldName.getValue());
+        return field != null && SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY);
+    }
+
     @Override
     public V fillAndGet(Object key) {
         if (containsKey(key)) {
@@ -288,17 +367,25 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        if (fieldNames == null) {
+            return (K[]) new Object[]{};
+        }
+        Object[] keys = new Object[rows.size()];
+        TableRowStore<K, V>.Cursor cursor = rows.cursor();
+        for (int i = 0; cursor.hasNext(); i++) {
+            keys[i] = rows.getKey(cursor.next());
+        }
+        return (K[]) keys;
     }
 
     @Override
     public int size() {
-        return entries.size();
+        return rows.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return rows.size() == 0;
     }
 
     @Override
@@ -323,7 +410,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
+        Iterator<V> itr = values().iterator();
         return createStringValueDataEntry(itr, parent);
     }
 
@@ -334,21 +421,21 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
+        Iterator<V> itr = values().iterator();
         return createExpressionStringValueDataEntry(itr, parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getStringValue(struct.getValue(),
+            V struct = itr.next();
+            sj.add(StringUtils.getStringValue(struct,
                                               new CycleUtils.Node(this, parent)));
         }
         return "[" + sj.toString() + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         if (type.getFieldNames() != null) {
@@ -358,8 +445,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             }
         }
         while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getExpressionStringValue(struct.getValue(),
+            V struct = itr.next();
+            sj.add(StringUtils.getExpressionStringValue(struct,
                                                         new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner.toString() + ") [" + sj.toString() + "]";
@@ -405,39 +492,32 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+        private final TableRowStore<?, ?>.Cursor cursor;
 
         TableIterator() {
-            this.cursor = 0;
+            this.cursor = rows.cursor();
         }
 
         @Override
         public Object next() {
-            Long hash = indexToKeyMap.get(cursor);
-            if (hash != null) {
-                Map.Entry<K, V> next = (Map.Entry<K, V>) entries.get(hash);
-                V value = next.getValue();
-                K key = next.getKey();
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
-            }
+            int slot = cursor.next();
+            V value = (V) rows.getRow(slot);
+            K key = (K) rows.getKey(slot);
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            return cursor.hasNext();
         }
     }
 
@@ -459,11 +539,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            updateIndexKeyMappings((long) uuid.hashCode());
-            return values.put((long) uuid.hashCode(), data);
+            rows.append(data);
+            return null;
         }
 
         public V remove(K key) {
@@ -499,68 +576,58 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
 
-            if (containsKey((K) key)) {
+            long hash = TableUtils.hash(key, null);
+            if (rows.find(key, hash) >= 0) {
                 throw ErrorCreator.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR,
                                                StringUtils.fromString("A value " + "found for key '" + key + "'"));
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (rows.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            Long hash = TableUtils.hash(key, null);
-            putData(key, data, entry, hash);
+            rows.append(key, hash, data);
         }
 
         public V getData(K key) {
-            return values.get(TableUtils.hash(key, null));
+            int slot = rows.find(key, TableUtils.hash(key, null));
+            return slot < 0 ? null : rows.getRow(slot);
         }
 
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
-
-            if (!hash.equals(actualHash)) {
+            // Keys with the same hash may still differ, so the keys themselves are compared
+            if (!TypeChecker.isEqual(key, actualKey)) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR, StringUtils.fromString("The key '" +
                         key + "' not found in value " + data.toString()));
             }
 
-            return putData(key, data, entry, hash);
+            return putData(key, data, TableUtils.hash(key, null));
         }
 
-        private V putData(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            entries.put(hash, entry);
-            keys.put(hash, key);
-            updateIndexKeyMappings(hash);
-            return values.put(hash, data);
+        private V putData(K key, V data, long hash) {
+            int slot = rows.find(key, hash);
+            if (slot >= 0) {
+                return rows.replace(slot, key, data);
+            }
+            rows.append(key, hash, data);
+            return null;
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, entry, hash);
+            return putData(key, data, TableUtils.hash(key, null));
         }
 
         public V remove(K key) {
-            Long hash = TableUtils.hash(key, null);
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(hash);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
-            }
-            return values.remove(hash);
+            int slot = rows.find(key, TableUtils.hash(key, null));
+            return slot < 0 ? null : rows.remove(slot);
         }
 
         public boolean containsKey(K key) {
-            return keys.containsKey(TableUtils.hash(key, null));
+            return rows.find(key, TableUtils.hash(key, null)) >= 0;
         }
 
         public Type getKeyType() {
@@ -611,15 +678,6 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash) {
-        if (!keyToIndexMap.containsKey(hash)) {
-            keyToIndexMap.put(hash, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, hash);
-            noOfAddedEntries++;
-        }
-    }
-
     // This method checks for inherent table type violation
     private void checkInherentTypeViolation(MapValue dataMap, TableType type) {
         if (!TypeChecker.checkIsType(dataMap.getType(), type.getConstrainedType())) {
@@ -46,6 +46,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
@@ -67,9 +68,14 @@ public final class XmlItem extends XmlValue implements BXmlItem {
 
     private QName name;
     private XmlSequence children;
-    private AttributeMapValueImpl attributes;
-    // Keep track of probable parents of xml element to detect probable cycles in xml.
-    private List<WeakReference<XmlItem>> probableParents;
+    // Created on first use, since most elements read from a document are never asked for their attribute map.
+    private volatile AttributeMapValueImpl attributes;
+    // Attributes read by the xml parser as alternating keys and values, used until the attribute map is created.
+    private BString[] parsedAttributes;
+    // Keep track of probable parents of xml element to detect probable cycles in xml. Most elements only ever have a
+    // single parent, so a list is only created for the others.
+    private WeakReference<XmlItem> probableParent;
+    private List<WeakReference<XmlItem>> otherProbableParents;
 
     public XmlItem(QName name, XmlSequence children, boolean readonly) {
         this.name = name;
@@ -77,10 +83,6 @@ public final class XmlItem extends XmlValue implements BXmlItem {
         for (BXml child : children.children) {
             addParent(child, this);
         }
-        attributes = new AttributeMapValueImpl(false);
-        addDefaultNamespaceAttribute(name, attributes);
-        probableParents = new ArrayList<>();
-        this.type = PredefinedTypes.TYPE_ELEMENT;
         this.type = readonly ? PredefinedTypes.TYPE_READONLY_ELEMENT : PredefinedTypes.TYPE_ELEMENT;
     }
 
@@ -105,25 +107,132 @@ public final class XmlItem extends XmlValue implements BXmlItem {
         for (BXml child : children.children) {
             addParent(child, this);
         }
-        attributes = new AttributeMapValueImpl(readonly);
-        addDefaultNamespaceAttribute(name, attributes);
-        probableParents = new ArrayList<>();
-
         this.type = readonly ? PredefinedTypes.TYPE_READONLY_ELEMENT : PredefinedTypes.TYPE_ELEMENT;
     }
-    private void addDefaultNamespaceAttribute(QName name, AttributeMapValueImpl attributes) {
+
+    private String getDefaultNamespaceAttributeKey() {
         String namespace = name.getNamespaceURI();
         if (namespace == null || namespace.isEmpty()) {
-            return;
+            return null;
         }
 
         String prefix = name.getPrefix();
         if (prefix == null || prefix.isEmpty()) {
             prefix = XMLNS;
         }
+        return XMLNS_NS_URI_PREFIX + prefix;
+    }
+
+    private AttributeMapValueImpl getAttributes() {
+        AttributeMapValueImpl attributes = this.attributes;
+        return attributes != null ? attributes : createAttributes();
+    }
+
+    private synchronized AttributeMapValueImpl createAttributes() {
+        if (this.attributes != null) {
+            return this.attributes;
+        }
+
+        AttributeMapValueImpl attributes = new AttributeMapValueImpl();
+        String defaultNamespaceKey = getDefaultNamespaceAttributeKey();
+        if (defaultNamespaceKey != null) {
+            attributes.populateInitialValue(StringUtils.fromString(defaultNamespaceKey),
+                                            StringUtils.fromString(name.getNamespaceURI()));
+        }
+        // Parsed attributes are kept after the map is created, so that a thread reading the attributes of a shared
+        // read-only element without the map never misses them.
+        BString[] parsedAttributes = this.parsedAttributes;
+        if (parsedAttributes != null) {
+            for (int i = 0; i < parsedAttributes.length; i += 2) {
+                attributes.populateInitialValue(parsedAttributes[i], parsedAttributes[i + 1]);
+            }
+        }
+        if (this.type.isReadOnly()) {
+            attributes.freezeDirect();
+        }
+        this.attributes = attributes;
+        return attributes;
+    }
+
+    private BString getAttributeValue(BString key) {
+        AttributeMapValueImpl attributes = this.attributes;
+        if (attributes != null) {
+            return attributes.get(key);
+        }
+
+        String keyValue = key.getValue();
+        BString parsedValue = getParsedAttribute(keyValue);
+        if (parsedValue != null) {
+            return parsedValue;
+        }
+        if (keyValue.equals(getDefaultNamespaceAttributeKey())) {
+            return StringUtils.fromString(name.getNamespaceURI());
+        }
+        return null;
+    }
+
+    private BString getParsedAttribute(String key) {
+        BString[] parsedAttributes = this.parsedAttributes;
+        if (parsedAttributes == null) {
+            return null;
+        }
+        for (int i = 0; i < parsedAttributes.length; i += 2) {
+            if (parsedAttributes[i].getValue().equals(key)) {
+                return parsedAttributes[i + 1];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Set the attributes read by the xml parser, without creating the attribute map of the element. Keys must be
+     * unique and the array must not be modified afterwards.
+     *
+     * @param parsedAttributes attribute keys and values, alternating
+     */
+    public void setParsedAttributes(BString[] parsedAttributes) {
+        this.parsedAttributes = parsedAttributes;
+    }
+
+    /**
+     * Record the given element as the parent of this element read by the xml parser. Cycles are not checked for,
+     * since the parser cannot construct one.
+     *
+     * @param parent element this element was read as a child of
+     */
+    public void setParsedParent(XmlItem parent) {
+        addParent(this, parent);
+    }
+
+    /**
+     * Performs the given action for each attribute of this element, in the order of the attribute map, without
+     * creating the attribute map.
+     *
+     * @param action action to perform for each attribute key and value
+     */
+    public void forEachAttribute(BiConsumer<BString, BString> action) {
+        AttributeMapValueImpl attributes = this.attributes;
+        if (attributes != null) {
+            for (Map.Entry<BString, BString> entry : attributes.entrySet()) {
+                action.accept(entry.getKey(), entry.getValue());
+            }
+            return;
+        }
 
-        attributes.populateInitialValue(StringUtils.fromString(XMLNS_NS_URI_PREFIX + prefix),
-                                        StringUtils.fromString(namespace));
+        String defaultNamespaceKey = getDefaultNamespaceAttributeKey();
+        if (defaultNamespaceKey != null) {
+            BString value = getParsedAttribute(defaultNamespaceKey);
+            action.accept(StringUtils.fromString(defaultNamespaceKey),
+                          value != null ? value : StringUtils.fromString(name.getNamespaceURI()));
+        }
+        BString[] parsedAttributes = this.parsedAttributes;
+        if (parsedAttributes != null) {
+            for (int i = 0; i < parsedAttributes.length; i += 2) {
+                if (!parsedAttributes[i].getValue().equals(defaultNamespaceKey)) {
+                    action.accept(parsedAttributes[i], parsedAttributes[i + 1]);
+                }
+            }
+        }
     }
 
     /**
@@ -171,6 +280,8 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     }
 
     public void setQName(QName name) {
+        // The default namespace attribute of the current name stays with the element.
+        getAttributes();
         this.name = name;
     }
 
@@ -196,16 +307,16 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     @Override
     public BString getAttribute(String localName, String namespace, String prefix) {
         if (prefix != null && !prefix.isEmpty()) {
-            String ns = attributes.get(StringUtils.fromString(XMLNS_NS_URI_PREFIX + prefix)).getValue();
-            BString attrVal = attributes.get(StringUtils.fromString("{" + ns + "}" + localName));
+            String ns = getAttributeValue(StringUtils.fromString(XMLNS_NS_URI_PREFIX + prefix)).getValue();
+            BString attrVal = getAttributeValue(StringUtils.fromString("{" + ns + "}" + localName));
             if (attrVal != null) {
                 return attrVal;
             }
         }
         if (namespace != null && !namespace.isEmpty()) {
-            return attributes.get(StringUtils.fromString("{" + namespace + "}" + localName));
+            return getAttributeValue(StringUtils.fromString("{" + namespace + "}" + localName));
         }
-        return attributes.get(StringUtils.fromString(localName));
+        return getAttributeValue(StringUtils.fromString(localName));
     }
 
     /**
@@ -217,7 +328,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             ReadOnlyUtils.handleInvalidUpdate(XML_LANG_LIB);
         }
 
-        attributes.setAttribute(localName, namespaceUri, prefix, value, false);
+        getAttributes().setAttribute(localName, namespaceUri, prefix, value, false);
     }
 
     /**
@@ -225,7 +336,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
      */
     @Override
     public MapValue<BString, BString> getAttributesMap() {
-        return this.attributes;
+        return getAttributes();
     }
 
     /**
@@ -348,22 +459,40 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     // use in scenarios where cyclic xml construction is impossible, that is only when constructing xml tree from
     // xml literal syntax, or after ensuring the new xml tree is not cyclic.
     private void addParent(BXml child, XmlItem thisElem) {
-        if (child.getNodeType() == ELEMENT) {
-            ((XmlItem) child).probableParents.add(new WeakReference<>(thisElem));
+        if (child.getNodeType() != ELEMENT) {
+            return;
+        }
+
+        XmlItem item = (XmlItem) child;
+        if (item.probableParent == null || item.probableParent.get() == null) {
+            item.probableParent = new WeakReference<>(thisElem);
+            return;
         }
+        if (item.otherProbableParents == null) {
+            item.otherProbableParents = new ArrayList<>(1);
+        }
+        item.otherProbableParents.add(new WeakReference<>(thisElem));
     }
 
     private void ensureAcyclicGraph(BXml newSubTree, XmlItem current) {
-        for (WeakReference<XmlItem> probableParentRef : current.probableParents) {
-            XmlItem parent = probableParentRef.get();
-            // probable parent is the actual parent.
-            if (parent.children.children.contains(current)) {
-                // If new subtree is in the lineage of current node, adding this newSubTree forms a cycle.
-                if (parent == newSubTree) {
-                    throw createXMLCycleError();
-                }
-                ensureAcyclicGraph(newSubTree, parent);
+        if (current.probableParent != null) {
+            ensureAcyclicGraph(newSubTree, current, current.probableParent.get());
+        }
+        if (current.otherProbableParents != null) {
+            for (WeakReference<XmlItem> probableParentRef : current.otherProbableParents) {
+                ensureAcyclicGraph(newSubTree, current, probableParentRef.get());
+            }
+        }
+    }
+
+    private void ensureAcyclicGraph(BXml newSubTree, XmlItem current, XmlItem parent) {
+        // probable parent is the actual parent.
+        if (parent != null && parent.children.children.contains(current)) {
+            // If new subtree is in the lineage of current node, adding this newSubTree forms a cycle.
+            if (parent == newSubTree) {
+                throw createXMLCycleError();
             }
+            ensureAcyclicGraph(newSubTree, parent);
         }
     }
 
@@ -492,6 +621,11 @@ public final class XmlItem extends XmlValue implements BXmlItem {
 
         QName elemName = new QName(this.name.getNamespaceURI(), this.name.getLocalPart(), this.name.getPrefix());
         XmlItem xmlItem = new XmlItem(elemName, (XmlSequence) children.copy(refs));
+        if (this.attributes == null) {
+            // Parsed attributes are never modified, so the copy can share them.
+            xmlItem.parsedAttributes = this.parsedAttributes;
+            return xmlItem;
+        }
 
         MapValue<BString, BString> attributesMap = xmlItem.getAttributesMap();
         MapValue<BString, BString> copy = (MapValue<BString, BString>) this.getAttributesMap().copy(refs);
@@ -544,7 +678,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
 
     @Override
     protected void setAttributeOnInitialization(String localName, String namespace, String prefix, String value) {
-        attributes.setAttribute(localName, namespace, prefix, value, true);
+        getAttributes().setAttribute(localName, namespace, prefix, value, true);
     }
 
     /**
@@ -556,7 +690,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             ReadOnlyUtils.handleInvalidUpdate(XML_LANG_LIB);
         }
 
-        attributes.remove(qname);
+        getAttributes().remove(StringUtils.fromString(qname));
     }
 
     /**
@@ -608,7 +742,14 @@ public final class XmlItem extends XmlValue implements BXmlItem {
         }
 
         XmlItem item = (XmlItem) removedItem;
-        for (Iterator<WeakReference<XmlItem>> iterator = item.probableParents.iterator(); iterator.hasNext();) {
+        if (item.probableParent != null && item.probableParent.get() == this) {
+            item.probableParent.clear();
+            item.probableParent = null;
+        }
+        if (item.otherProbableParents == null) {
+            return;
+        }
+        for (Iterator<WeakReference<XmlItem>> iterator = item.otherProbableParents.iterator(); iterator.hasNext();) {
             WeakReference<XmlItem> probableParent = iterator.next();
             XmlItem parent = probableParent.get();
             if (parent == this) {
@@ -625,7 +766,10 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     public void freezeDirect() {
         this.type = ReadOnlyUtils.setImmutableTypeAndGetEffectiveType(this.type);
         this.children.freezeDirect();
-        this.attributes.freezeDirect();
+        AttributeMapValueImpl attributes = this.attributes;
+        if (attributes != null) {
+            attributes.freezeDirect();
+        }
     }
 
     private QName getQName(String localName, String namespaceUri, String prefix) {
@@ -666,7 +810,8 @@ public final class XmlItem extends XmlValue implements BXmlItem {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, children, attributes, probableParents);
+        // The attribute map hashes by identity, so it adds nothing here, and hashing it would create it.
+        return Objects.hash(name, children, Arrays.hashCode(parsedAttributes));
     }
 
     private interface SetAttributeFunction {
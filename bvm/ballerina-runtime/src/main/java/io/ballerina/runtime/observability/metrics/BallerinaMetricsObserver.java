@@ -25,6 +25,8 @@ import java.time.Duration;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
 import static io.ballerina.runtime.observability.ObservabilityConstants.STATUS_CODE_GROUP_SUFFIX;
@@ -57,6 +59,14 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
                     .build()
     };
 
+    /*
+     * Metrics resolved for each distinct tag set, so that observing a request only needs a single map lookup
+     * instead of building metric IDs and looking them up in the registry for every request. The tag sets used as
+     * keys are never modified after they are added.
+     */
+    private static final ConcurrentMap<Set<Tag>, InProgressMetrics> inProgressMetrics = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Set<Tag>, ResponseMetrics> responseMetrics = new ConcurrentHashMap<>();
+
     @Override
     public void startServerObservation(ObserverContext observerContext) {
         startObservation(observerContext);
@@ -89,8 +99,7 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
         observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
         Set<Tag> tags = observerContext.getAllTags();
         try {
-            Gauge inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
-                    tags));
+            Gauge inProgressGauge = getInProgressMetrics(tags).inProgressGauge;
             inProgressGauge.increment();
             /*
              * The in progress counter is stored so that the same counter can be decremted when the observation
@@ -121,20 +130,75 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
             Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
             long duration = System.nanoTime() - startTime;
             ((Gauge) observerContext.getProperty(PROPERTY_IN_PROGRESS_COUNTER)).decrement();
-            metricRegistry.gauge(new MetricId("response_time_seconds",
-                    "Response time", tags), responseTimeStatisticConfigs).setValue(duration / 1E9);
-            metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
-                    "Total response response time for all requests", tags)).increment(duration);
-            metricRegistry.counter(new MetricId("requests_total",
-                    "Total number of requests", tags)).increment();
+            ResponseMetrics metrics = getResponseMetrics(tags);
+            metrics.responseTime.setValue(duration / 1E9);
+            metrics.responseTimeTotal.increment(duration);
+            metrics.requestsTotal.increment();
         } catch (RuntimeException e) {
             handleError("multiple metrics", tags, e);
         }
     }
 
+    private static InProgressMetrics getInProgressMetrics(Set<Tag> tags) {
+        // Read the removal count before resolving metrics, so that a concurrent removal invalidates the new entry
+        int removalCount = metricRegistry.getRemovalCount();
+        InProgressMetrics metrics = inProgressMetrics.get(tags);
+        if (metrics == null || metrics.removalCount != removalCount) {
+            metrics = new InProgressMetrics(removalCount, tags);
+            inProgressMetrics.put(tags, metrics);
+        }
+        return metrics;
+    }
+
+    private static ResponseMetrics getResponseMetrics(Set<Tag> tags) {
+        int removalCount = metricRegistry.getRemovalCount();
+        ResponseMetrics metrics = responseMetrics.get(tags);
+        if (metrics == null || metrics.removalCount != removalCount) {
+            metrics = new ResponseMetrics(removalCount, tags);
+            responseMetrics.put(tags, metrics);
+        }
+        return metrics;
+    }
+
     private void handleError(String metricName, Set<Tag> tags, RuntimeException e) {
         // Metric Provider may throw exceptions if there is a mismatch in tags.
         consoleError.println("error: error collecting metrics for " + metricName + " with tags " + tags +
                 ": " + e.getMessage());
     }
+
+    /**
+     * Metrics updated when an observation starts.
+     */
+    private static class InProgressMetrics {
+
+        private final int removalCount;
+        private final Gauge inProgressGauge;
+
+        private InProgressMetrics(int removalCount, Set<Tag> tags) {
+            this.removalCount = removalCount;
+            this.inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
+                    tags));
+        }
+    }
+
+    /**
+     * Metrics updated when an observation stops.
+     */
+    private static class ResponseMetrics {
+
+        private final int removalCount;
+        private final Gauge responseTime;
+        private final Counter responseTimeTotal;
+        private final Counter requestsTotal;
+
+        private ResponseMetrics(int removalCount, Set<Tag> tags) {
+            this.removalCount = removalCount;
+            this.responseTime = metricRegistry.gauge(new MetricId("response_time_seconds",
+                    "Response time", tags), responseTimeStatisticConfigs);
+            this.responseTimeTotal = metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
+                    "Total response response time for all requests", tags));
+            this.requestsTotal = metricRegistry.counter(new MetricId("requests_total",
+                    "Total number of requests", tags));
+        }
+    }
 }
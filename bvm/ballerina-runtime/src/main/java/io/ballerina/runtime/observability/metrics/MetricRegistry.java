@@ -22,6 +22,7 @@ import io.ballerina.runtime.observability.metrics.spi.MetricProvider;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
@@ -35,6 +36,8 @@ public class MetricRegistry {
     private final MetricProvider metricProvider;
     // Metrics Map by ID
     private final ConcurrentMap<MetricId, Metric> metrics;
+    // Number of times metrics were removed, used to detect metric instances cached outside the registry going stale
+    private final AtomicInteger removalCount = new AtomicInteger();
 
     public MetricRegistry(MetricProvider metricProvider) {
         this.metricProvider = metricProvider;
@@ -179,8 +182,8 @@ public class MetricRegistry {
 
     private <M extends Metric> void unregister(Metric registerMetric, Class<M> metricClass) {
         Metric metric = readMetric(registerMetric.getId(), metricClass);
-        if (metric != null) {
-            metrics.remove(registerMetric.getId());
+        if (metric != null && metrics.remove(registerMetric.getId()) != null) {
+            removalCount.incrementAndGet();
         }
     }
 
@@ -193,6 +196,9 @@ public class MetricRegistry {
         List<MetricId> ids = metrics.keySet().stream()
                 .filter(id -> id.getName().equals(name)).collect(Collectors.toList());
         ids.forEach(metrics::remove);
+        if (!ids.isEmpty()) {
+            removalCount.incrementAndGet();
+        }
     }
 
     public MetricProvider getMetricProvider() {
@@ -203,6 +209,10 @@ public class MetricRegistry {
         return this.metrics.values().toArray(new Metric[this.metrics.values().size()]);
     }
 
+    int getRemovalCount() {
+        return removalCount.get();
+    }
+
     public Metric lookup(MetricId metricId) {
         return metrics.get(metricId);
     }
@@ -40,7 +40,7 @@ module io.ballerina.runtime {
             io.ballerina.lang, io.ballerina.lang.map, io.ballerina.lang.test, io.ballerina.lang.array,
             io.ballerina.lang.table, io.ballerina.lang.value, io.ballerina.lang.xml, ballerina.debug.adapter.core,
             io.ballerina.cli, io.ballerina.lang.integer, io.ballerina.lang.bool, io.ballerina.lang.decimal,
-            io.ballerina.lang.floatingpoint, io.ballerina.lang.internal;
+            io.ballerina.lang.floatingpoint, io.ballerina.lang.internal, io.ballerina.lang.query;
     exports io.ballerina.runtime.internal.commons to io.ballerina.lang.value;
     exports io.ballerina.runtime.internal.launch to io.ballerina.testerina.runtime, io.ballerina.packerina,
             ballerina.test.listener, io.ballerina.cli;
@@ -60,10 +60,10 @@ module io.ballerina.runtime {
             io.ballerina.lang.xml, io.ballerina.testerina.core, io.ballerina.cli.utils, io.ballerina.cli,
             io.ballerina.lang.decimal, org.ballerinalang.debugadapter.runtime;
     exports io.ballerina.runtime.internal.values to io.ballerina.testerina.core, io.ballerina.testerina.runtime,
-            io.ballerina.lang.xml, org.ballerinalang.debugadapter.runtime;
+            io.ballerina.lang.xml, io.ballerina.lang.query, org.ballerinalang.debugadapter.runtime;
     exports io.ballerina.runtime.internal.configurable to io.ballerina.lang.internal;
-    exports io.ballerina.runtime.internal.types to io.ballerina.lang.typedesc, io.ballerina.testerina.runtime,
-            org.ballerinalang.debugadapter.runtime;
+    exports io.ballerina.runtime.internal.types to io.ballerina.lang.typedesc, io.ballerina.lang.value,
+            io.ballerina.testerina.runtime, org.ballerinalang.debugadapter.runtime;
     exports io.ballerina.runtime.observability.metrics.noop;
     exports io.ballerina.runtime.observability.tracer.noop;
 }
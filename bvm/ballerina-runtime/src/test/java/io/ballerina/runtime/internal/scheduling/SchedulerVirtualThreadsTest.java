@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test cases for running the {@link Scheduler} threads as virtual threads.
+ * <p>
+ * Whether the virtual thread path or the platform thread fallback is taken depends on the JVM running the tests, so
+ * the expectations follow {@link VirtualThreadFactory#isSupported()}.
+ */
+public class SchedulerVirtualThreadsTest {
+
+    private static final int NUM_THREADS = 2;
+
+    @Test
+    void testStartWithVirtualThreads() throws Exception {
+        boolean supported = VirtualThreadFactory.isSupported();
+        ByteArrayOutputStream errContent = new ByteArrayOutputStream();
+        PrintStream originalErr = System.err;
+        Scheduler scheduler;
+        System.setErr(new PrintStream(errContent, true, StandardCharsets.UTF_8));
+        try {
+            scheduler = new Scheduler(NUM_THREADS, false, true);
+        } finally {
+            System.setErr(originalErr);
+        }
+        Assert.assertEquals(scheduler.isVirtualThreads(), supported);
+        String warning = errContent.toString(StandardCharsets.UTF_8);
+        if (supported) {
+            Assert.assertEquals(warning, "");
+        } else {
+            Assert.assertTrue(warning.contains(RuntimeConstants.BALLERINA_VIRTUAL_THREADS_ENV_VAR), warning);
+        }
+
+        // With platform threads the thread calling start() is one of the scheduler threads, so the strand may run
+        // on it, while with virtual threads it only waits for them
+        Thread strandThread = runStrand(scheduler);
+        Assert.assertEquals(isVirtual(strandThread), supported);
+        if (supported) {
+            Assert.assertTrue(strandThread.getName().startsWith("jbal-strand-exec-"), strandThread.getName());
+        }
+    }
+
+    @Test
+    void testStartWithPlatformThreads() throws Exception {
+        Scheduler scheduler = new Scheduler(NUM_THREADS, false, false);
+        Assert.assertFalse(scheduler.isVirtualThreads());
+
+        Thread strandThread = runStrand(scheduler);
+        Assert.assertFalse(isVirtual(strandThread));
+    }
+
+    /**
+     * Schedules a strand that records its thread and runs the scheduler until the strand is done.
+     */
+    private static Thread runStrand(Scheduler scheduler) throws InterruptedException {
+        AtomicReference<Thread> strandThread = new AtomicReference<>();
+        scheduler.schedule(new Object[1], params -> {
+            strandThread.set(Thread.currentThread());
+            return null;
+        }, null, null, "test", null);
+
+        // The scheduler is not immortal, so start() returns once the only strand is done
+        Thread main = new Thread(scheduler::start, "scheduler-test-main");
+        main.start();
+        main.join(TimeUnit.SECONDS.toMillis(30));
+        Assert.assertFalse(main.isAlive(), "scheduler did not stop after the strand was done");
+        Assert.assertNotNull(strandThread.get(), "strand was not executed");
+        return strandThread.get();
+    }
+
+    private static boolean isVirtual(Thread thread) throws IllegalAccessException, InvocationTargetException {
+        Method isVirtual;
+        try {
+            isVirtual = Thread.class.getMethod("isVirtual");
+        } catch (NoSuchMethodException e) {
+            // virtual threads are not available before Java 19
+            return false;
+        }
+        return (boolean) isVirtual.invoke(thread);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.ballerina.runtime.internal.scheduling.StrandFramePool.INITIAL_FRAME_ARRAY_SIZE;
+
+/**
+ * Test cases for pooling the frame arrays of yielded strands in {@link StrandFramePool}.
+ * <p>
+ * The pool is per thread, so each test runs on a new thread to start with an empty pool.
+ */
+public class StrandFramePoolTest {
+
+    @Test
+    void testReleasedArrayIsReused() throws InterruptedException {
+        runOnNewThread(() -> {
+            long allocated = StrandFramePool.getAllocatedArrayCount();
+            long reused = StrandFramePool.getReusedArrayCount();
+
+            Object[] frames = StrandFramePool.acquire();
+            Assert.assertEquals(frames.length, INITIAL_FRAME_ARRAY_SIZE);
+            Assert.assertEquals(StrandFramePool.getAllocatedArrayCount(), allocated + 1);
+            frames[0] = new Object();
+            frames[1] = new Object();
+            StrandFramePool.release(frames);
+
+            Object[] reusedFrames = StrandFramePool.acquire();
+            Assert.assertSame(reusedFrames, frames);
+            Assert.assertEquals(StrandFramePool.getAllocatedArrayCount(), allocated + 1);
+            Assert.assertEquals(StrandFramePool.getReusedArrayCount(), reused + 1);
+            for (Object frame : reusedFrames) {
+                Assert.assertNull(frame, "released frame array should be cleared");
+            }
+        });
+    }
+
+    @Test
+    void testGrownArrayIsNotPooled() throws InterruptedException {
+        runOnNewThread(() -> {
+            long grown = StrandFramePool.getGrownArrayCount();
+            Object[] frames = StrandFramePool.acquire();
+            Object first = new Object();
+            frames[0] = first;
+
+            Object[] grownFrames = StrandFramePool.grow(frames);
+            Assert.assertEquals(grownFrames.length, INITIAL_FRAME_ARRAY_SIZE * 2);
+            Assert.assertSame(grownFrames[0], first);
+            Assert.assertEquals(StrandFramePool.getGrownArrayCount(), grown + 1);
+
+            StrandFramePool.release(grownFrames);
+            Assert.assertNotSame(StrandFramePool.acquire(), grownFrames);
+        });
+    }
+
+    @Test
+    void testStrandAcquiresFramesLazily() throws InterruptedException {
+        runOnNewThread(() -> {
+            Strand strand = createStrand();
+            Assert.assertNull(strand.frames, "a strand that has not yielded should not have a frame array");
+
+            long allocated = StrandFramePool.getAllocatedArrayCount();
+            long grown = StrandFramePool.getGrownArrayCount();
+            strand.pushFrame(new Object());
+            Assert.assertNotNull(strand.frames);
+            Assert.assertEquals(strand.frames.length, INITIAL_FRAME_ARRAY_SIZE);
+            Assert.assertEquals(strand.resumeIndex, 1);
+            Assert.assertEquals(StrandFramePool.getAllocatedArrayCount(), allocated + 1);
+
+            Object[] frames = new Object[INITIAL_FRAME_ARRAY_SIZE + 1];
+            frames[0] = strand.frames[0];
+            for (int i = 1; i < frames.length; i++) {
+                frames[i] = new Object();
+                strand.pushFrame(frames[i]);
+            }
+            Assert.assertEquals(strand.frames.length, INITIAL_FRAME_ARRAY_SIZE * 2);
+            Assert.assertEquals(strand.resumeIndex, frames.length);
+            Assert.assertEquals(StrandFramePool.getGrownArrayCount(), grown + 1);
+            for (int i = 0; i < frames.length; i++) {
+                Assert.assertSame(strand.frames[i], frames[i]);
+            }
+        });
+    }
+
+    @Test
+    void testFrameOutlivesYield() throws InterruptedException {
+        runOnNewThread(() -> {
+            Strand yielded = createStrand();
+            Object frame = new Object();
+            yielded.pushFrame(frame);
+
+            // Another strand completing and yielding on the same thread while the first one is suspended
+            Strand other = createStrand();
+            other.pushFrame(new Object());
+            Assert.assertNotSame(other.frames, yielded.frames);
+            StrandFramePool.release(other.frames);
+            Strand next = createStrand();
+            next.pushFrame(new Object());
+            Assert.assertSame(next.frames, other.frames);
+            Assert.assertNotSame(next.frames, yielded.frames);
+
+            // The suspended strand resumes with its frame intact
+            Assert.assertEquals(yielded.resumeIndex, 1);
+            Assert.assertSame(yielded.frames[--yielded.resumeIndex], frame);
+        });
+    }
+
+    @Test
+    void testPoolIsPerThread() throws InterruptedException {
+        AtomicReference<Object[]> released = new AtomicReference<>();
+        runOnNewThread(() -> {
+            Object[] frames = StrandFramePool.acquire();
+            StrandFramePool.release(frames);
+            released.set(frames);
+        });
+        runOnNewThread(() -> Assert.assertNotSame(StrandFramePool.acquire(), released.get()));
+    }
+
+    private static Strand createStrand() {
+        return new Strand("test", null, null, null, null);
+    }
+
+    private static void runOnNewThread(Runnable test) throws InterruptedException {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                test.run();
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        thread.start();
+        thread.join();
+        if (failure.get() instanceof AssertionError) {
+            throw (AssertionError) failure.get();
+        }
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+    }
+}
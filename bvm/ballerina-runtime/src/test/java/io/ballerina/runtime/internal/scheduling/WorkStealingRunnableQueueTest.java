@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test cases for the per worker deques of {@link WorkStealingRunnableQueue}.
+ */
+public class WorkStealingRunnableQueueTest {
+
+    private static final int STRESS_WORKERS = 4;
+    private static final int GROUPS_PER_WORKER = 20000;
+    private static final int SUBMITTED_GROUPS = 20000;
+    private static final int SPAWN_DEPTH = 2;
+
+    @Test
+    void testOwnerTakesLocalGroupsFirst() throws InterruptedException {
+        WorkStealingRunnableQueue queue = new WorkStealingRunnableQueue(1);
+        queue.registerWorker();
+        ItemGroup first = newGroup();
+        ItemGroup second = newGroup();
+        ItemGroup firstLocal = newGroup();
+        ItemGroup secondLocal = newGroup();
+
+        queue.add(first);
+        queue.add(second);
+        queue.addLocal(firstLocal);
+        queue.addLocal(secondLocal);
+
+        // Local groups are taken LIFO from the head, then the added groups FIFO from the tail
+        Assert.assertSame(queue.take(), secondLocal);
+        Assert.assertSame(queue.take(), firstLocal);
+        Assert.assertSame(queue.take(), first);
+        Assert.assertSame(queue.take(), second);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testOwnerTakesOwnGroupsBeforeSubmittedGroups() throws InterruptedException {
+        WorkStealingRunnableQueue queue = new WorkStealingRunnableQueue(1);
+        ItemGroup submitted = newGroup();
+        runOnNewThread(() -> queue.add(submitted));
+
+        queue.registerWorker();
+        ItemGroup own = newGroup();
+        queue.add(own);
+        Assert.assertSame(queue.take(), own);
+        Assert.assertSame(queue.take(), submitted);
+    }
+
+    @Test
+    void testIdleWorkerStealsFromTail() throws InterruptedException {
+        WorkStealingRunnableQueue queue = new WorkStealingRunnableQueue(2);
+        queue.registerWorker();
+        ItemGroup first = newGroup();
+        ItemGroup second = newGroup();
+        ItemGroup third = newGroup();
+        queue.add(first);
+        queue.add(second);
+        queue.add(third);
+
+        AtomicReference<ItemGroup> stolen = new AtomicReference<>();
+        runOnNewThread(() -> {
+            queue.registerWorker();
+            try {
+                stolen.set(queue.take());
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        });
+        Assert.assertSame(stolen.get(), third);
+        Assert.assertSame(queue.take(), first);
+        Assert.assertSame(queue.take(), second);
+    }
+
+    @Test
+    void testIdleWorkerIsWokenBySubmission() throws InterruptedException {
+        WorkStealingRunnableQueue queue = new WorkStealingRunnableQueue(1);
+        AtomicReference<ItemGroup> taken = new AtomicReference<>();
+        CountDownLatch registered = new CountDownLatch(1);
+        Thread worker = new Thread(() -> {
+            queue.registerWorker();
+            registered.countDown();
+            try {
+                taken.set(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        worker.start();
+        registered.await();
+
+        ItemGroup submitted = newGroup();
+        queue.add(submitted);
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+        Assert.assertFalse(worker.isAlive(), "idle worker was not woken up");
+        Assert.assertSame(taken.get(), submitted);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    void testTakeFromUnregisteredThread() throws InterruptedException {
+        new WorkStealingRunnableQueue(1).take();
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    void testRegisterMoreWorkersThanPoolSize() throws InterruptedException {
+        WorkStealingRunnableQueue queue = new WorkStealingRunnableQueue(1);
+        runOnNewThread(queue::registerWorker);
+        queue.registerWorker();
+    }
+
+    @Test
+    void testConcurrentPushPollAndSteal() throws InterruptedException {
+        WorkStealingRunnableQueue queue = new WorkStealingRunnableQueue(STRESS_WORKERS);
+        Map<ItemGroup, Integer> depths = new ConcurrentHashMap<>();
+        Set<ItemGroup> taken = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        int roots = STRESS_WORKERS * GROUPS_PER_WORKER + SUBMITTED_GROUPS;
+        // Every taken group above the last depth spawns a child, so each root results in a chain of groups
+        CountDownLatch remaining = new CountDownLatch(roots * (SPAWN_DEPTH + 1));
+
+        Thread[] workers = new Thread[STRESS_WORKERS];
+        for (int i = 0; i < STRESS_WORKERS; i++) {
+            workers[i] = new Thread(() -> {
+                try {
+                    queue.registerWorker();
+                    for (int j = 0; j < GROUPS_PER_WORKER; j++) {
+                        push(queue, depths, 0);
+                    }
+                    while (true) {
+                        ItemGroup group = queue.take();
+                        if (!taken.add(group)) {
+                            duplicates.incrementAndGet();
+                        }
+                        int depth = depths.get(group);
+                        if (depth < SPAWN_DEPTH) {
+                            push(queue, depths, depth + 1);
+                        }
+                        remaining.countDown();
+                    }
+                } catch (InterruptedException e) {
+                    // stopped after all the groups are taken
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            }, "stress-worker-" + i);
+            workers[i].start();
+        }
+        Thread submitter = new Thread(() -> {
+            for (int j = 0; j < SUBMITTED_GROUPS; j++) {
+                ItemGroup group = newGroup();
+                depths.put(group, 0);
+                queue.add(group);
+            }
+        }, "stress-submitter");
+        submitter.start();
+
+        boolean completed = remaining.await(60, TimeUnit.SECONDS);
+        submitter.join();
+        for (Thread worker : workers) {
+            worker.interrupt();
+            worker.join();
+        }
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+        Assert.assertTrue(completed, "groups left in the queue: " + remaining.getCount());
+        Assert.assertEquals(duplicates.get(), 0, "groups taken more than once");
+        Assert.assertEquals(taken.size(), depths.size());
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    private static void push(WorkStealingRunnableQueue queue, Map<ItemGroup, Integer> depths, int depth) {
+        ItemGroup group = newGroup();
+        depths.put(group, depth);
+        if (ThreadLocalRandom.current().nextBoolean()) {
+            queue.add(group);
+        } else {
+            queue.addLocal(group);
+        }
+    }
+
+    private static ItemGroup newGroup() {
+        return new ItemGroup(null);
+    }
+
+    private static void runOnNewThread(Runnable task) throws InterruptedException {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        thread.start();
+        thread.join();
+        if (failure.get() instanceof RuntimeException) {
+            throw (RuntimeException) failure.get();
+        }
+        if (failure.get() instanceof Error) {
+            throw (Error) failure.get();
+        }
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.JsonPullParser;
+import io.ballerina.runtime.api.utils.JsonPullParser.Event;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.TypeChecker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for {@link JsonPullParser}.
+ */
+public class JsonPullParserTest {
+
+    private static final String DOCUMENT = "{\"id\": 1, \"name\": \"Caf\u00e9 \uD83D\uDE00 \\\"x\\\" \\u00e9\", " +
+            "\"price\": 12.50, \"zero\": -0, \"tags\": [\"a\", true, null], \"nested\": {\"empty\": []}}";
+
+    @Test
+    void testEvents() {
+        JsonPullParser parser = new JsonPullParser(DOCUMENT.getBytes(StandardCharsets.UTF_8));
+        List<Event> events = new ArrayList<>();
+        for (Event event = parser.next(); event != null; event = parser.next()) {
+            events.add(event);
+        }
+        Assert.assertEquals(events, List.of(Event.START_OBJECT,
+                Event.FIELD_NAME, Event.VALUE_NUMBER,
+                Event.FIELD_NAME, Event.VALUE_STRING,
+                Event.FIELD_NAME, Event.VALUE_NUMBER,
+                Event.FIELD_NAME, Event.VALUE_NUMBER,
+                Event.FIELD_NAME, Event.START_ARRAY, Event.VALUE_STRING, Event.VALUE_BOOLEAN, Event.VALUE_NULL,
+                Event.END_ARRAY,
+                Event.FIELD_NAME, Event.START_OBJECT, Event.FIELD_NAME, Event.START_ARRAY, Event.END_ARRAY,
+                Event.END_OBJECT,
+                Event.END_OBJECT));
+    }
+
+    @Test
+    void testValues() {
+        // A small buffer makes multi-byte characters and tokens span several reads.
+        JsonPullParser parser = new JsonPullParser(
+                new ByteArrayInputStream(DOCUMENT.getBytes(StandardCharsets.UTF_8)), 3);
+        Assert.assertEquals(parser.next(), Event.START_OBJECT);
+        Assert.assertEquals(parser.next(), Event.FIELD_NAME);
+        Assert.assertEquals(parser.getFieldName().getValue(), "id");
+        parser.next();
+        Assert.assertEquals(parser.getValue(), 1L);
+        parser.next();
+        parser.next();
+        Assert.assertEquals(parser.getValue(), StringUtils.fromString("Caf\u00e9 \uD83D\uDE00 \"x\" \u00e9"));
+        parser.next();
+        parser.next();
+        Assert.assertTrue(parser.getValue() instanceof BDecimal);
+        Assert.assertEquals(parser.getValue().toString(), "12.50");
+        parser.next();
+        parser.next();
+        Assert.assertEquals(parser.getValue(), -0.0);
+    }
+
+    @Test
+    void testReadAndSkipValues() {
+        JsonPullParser parser = new JsonPullParser(DOCUMENT.getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(parser.next(), Event.START_OBJECT);
+        Assert.assertTrue(TypeChecker.isEqual(parser.readValue(), JsonParser.parse(DOCUMENT)));
+        Assert.assertNull(parser.next());
+
+        parser = new JsonPullParser(DOCUMENT.getBytes(StandardCharsets.UTF_8));
+        while (parser.next() != Event.START_ARRAY) {
+            // Moves to the tags.
+        }
+        parser.skipValue();
+        Assert.assertEquals(parser.currentEvent(), Event.END_ARRAY);
+        Assert.assertEquals(parser.next(), Event.FIELD_NAME);
+        Assert.assertEquals(parser.getFieldName().getValue(), "nested");
+    }
+
+    @Test
+    void testScalarDocument() {
+        JsonPullParser parser = new JsonPullParser(" \"text\" ".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(parser.next(), Event.VALUE_STRING);
+        Assert.assertEquals(parser.readValue(), StringUtils.fromString("text"));
+        Assert.assertNull(parser.next());
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "expected ',' or '}' at line: 2.*")
+    void testMissingComma() {
+        readAll("{\"a\": 1\n \"b\": 2}");
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "unrecognized token '1.2.3'.*")
+    void testInvalidNumber() {
+        readAll("[1.2.3]");
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "expected end of the document.*")
+    void testTrailingContent() {
+        readAll("{} {}");
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "invalid UTF-8 byte sequence.*")
+    void testInvalidUtf8() {
+        JsonPullParser parser = new JsonPullParser(new byte[]{'"', (byte) 0xC3, '"'});
+        parser.next();
+    }
+
+    private static void readAll(String document) {
+        JsonPullParser parser = new JsonPullParser(document.getBytes(StandardCharsets.UTF_8));
+        while (parser.next() != null) {
+            // Reads the whole document.
+        }
+    }
+}
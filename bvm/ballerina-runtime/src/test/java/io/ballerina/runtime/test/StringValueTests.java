@@ -1,5 +1,7 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -40,4 +42,64 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testIndexOfAfterNonBmp() {
+        BString twice = SUBJECT.concat(SUBJECT);
+        BString frav = StringUtils.fromString("Frav");
+        Assert.assertEquals(twice.indexOf(frav, 11), Long.valueOf(26));
+        Assert.assertEquals(twice.lastIndexOf(frav, 31), Long.valueOf(26));
+        Assert.assertEquals(twice.lastIndexOf(frav, 25), Long.valueOf(10));
+    }
+
+    @Test
+    void testConcatAfterGetValue() {
+        BString prefix = StringUtils.fromString("a".repeat(300)).concat(SUBJECT);
+        Assert.assertEquals(prefix.getValue(), "a".repeat(300) + UNICODE_STR);
+        BString result = prefix.concat(SUBJECT);
+        Assert.assertEquals(result.getValue(), "a".repeat(300) + UNICODE_STR + UNICODE_STR);
+        Assert.assertEquals(result.getCodePoint(316 + 14), 0x1F47D);
+        Assert.assertEquals(prefix.length(), 316);
+    }
+
+    @Test
+    void testRepeatedConcat() {
+        BString part = StringUtils.fromString("part");
+        BString result = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            result = result.concat(part);
+            expected.append("part");
+        }
+        Assert.assertEquals(result.getValue(), expected.toString());
+        Assert.assertEquals(result.length(), expected.length());
+        Assert.assertEquals(result, StringUtils.fromString(expected.toString()));
+        Assert.assertEquals(result.hashCode(), StringUtils.fromString(expected.toString()).hashCode());
+    }
+
+    @Test
+    void testConcatToSharedPrefix() {
+        BString prefix = StringUtils.fromString("a".repeat(300)).concat(StringUtils.fromString("b"));
+        BString first = prefix.concat(StringUtils.fromString("c"));
+        BString second = prefix.concat(StringUtils.fromString("d"));
+        Assert.assertEquals(prefix.getValue(), "a".repeat(300) + "b");
+        Assert.assertEquals(first.getValue(), "a".repeat(300) + "bc");
+        Assert.assertEquals(second.getValue(), "a".repeat(300) + "bd");
+    }
+
+    @Test
+    void testRepeatedConcatWithNonBmp() {
+        BString result = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            result = result.concat(SUBJECT);
+            expected.append(UNICODE_STR);
+        }
+        Assert.assertEquals(result.getValue(), expected.toString());
+        Assert.assertEquals(result.length(), SUBJECT.length() * 100);
+        Assert.assertEquals(result.getCodePoint(16 * 99 + 14), 0x1F47D);
+        Assert.assertEquals(result.getCodePoint(16 * 99 + 15), 'r');
+        Assert.assertEquals(result.substring(16 * 50, 16 * 51).getValue(), UNICODE_STR);
+        Assert.assertEquals(result.indexOf(StringUtils.fromString("Frav"), 16 * 50), Long.valueOf(16 * 50 + 10));
+    }
+
 }
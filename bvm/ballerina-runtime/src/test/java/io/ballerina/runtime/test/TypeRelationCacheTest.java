@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.flags.TypeFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.TypeRelationCache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+/**
+ * Test cases for caching the results of type checks in {@link TypeRelationCache}.
+ */
+public class TypeRelationCacheTest {
+
+    private static final Module MODULE = new Module("testorg", "typerelation", "1.0.0");
+
+    @Test
+    void testRepeatedCheckIsCached() {
+        RecordType source = createRecordType("Source", PredefinedTypes.TYPE_INT);
+        RecordType target = createRecordType("Target", TypeCreator.createUnionType(PredefinedTypes.TYPE_INT,
+                                                                                   PredefinedTypes.TYPE_STRING));
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+        long hits = TypeRelationCache.getHitCount();
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+        Assert.assertTrue(TypeRelationCache.getHitCount() > hits);
+        Assert.assertFalse(TypeChecker.checkIsType(target, source));
+        Assert.assertFalse(TypeChecker.checkIsType(target, source));
+    }
+
+    @Test
+    void testChangingTypeInvalidatesCachedResults() {
+        RecordType source = createRecordType("Source", PredefinedTypes.TYPE_INT);
+        RecordType target = createRecordType("Target", PredefinedTypes.TYPE_STRING);
+        Assert.assertFalse(TypeChecker.checkIsType(source, target));
+
+        target.setFields(Map.of("value", TypeCreator.createField(PredefinedTypes.TYPE_INT, "value",
+                                                                  SymbolFlags.REQUIRED)));
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+    }
+
+    private static RecordType createRecordType(String typeName, Type fieldType) {
+        Map<String, Field> fields = Map.of("value", TypeCreator.createField(fieldType, "value", SymbolFlags.REQUIRED));
+        return TypeCreator.createRecordType(typeName, MODULE, 0, fields, null, true,
+                                            TypeFlags.asMask(TypeFlags.ANYDATA, TypeFlags.PURETYPE));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.XmlElementIterator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Test cases for {@link XmlElementIterator}.
+ */
+public class XmlElementIteratorTest {
+
+    private static final String ATOM = "http://www.w3.org/2005/Atom";
+    private static final String DOCUMENT = "<feed xmlns:a=\"" + ATOM + "\"><title>Feed</title>" +
+            "<a:entry id=\"1\"><a:title>First</a:title></a:entry>" +
+            "<other><a:entry id=\"nested\"/></other>" +
+            "<!-- comment --><a:entry id=\"2\">Second<a:entry id=\"inner\"/></a:entry></feed>";
+
+    @Test
+    void testIterateElements() {
+        List<String> ids = new ArrayList<>();
+        Iterator<BXml> iterator = XmlUtils.parseElements(new StringReader(DOCUMENT), "feed/{" + ATOM + "}entry");
+        while (iterator.hasNext()) {
+            BXml entry = iterator.next();
+            ids.add(entry.getAttributesMap().get(StringUtils.fromString("id")).getValue());
+        }
+        Assert.assertEquals(ids, List.of("1", "2"));
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void testElementsMatchParsedElements() {
+        Iterator<BXml> iterator = XmlUtils.parseElements(new StringReader(DOCUMENT), "/feed/other");
+        Assert.assertTrue(iterator.hasNext());
+        Assert.assertEquals(iterator.next().toString(),
+                            XmlUtils.parse(DOCUMENT).children().elements("other").toString());
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void testNoMatchingElements() {
+        Assert.assertFalse(XmlUtils.parseElements(new StringReader(DOCUMENT), "feed/entry").hasNext());
+        Assert.assertFalse(XmlUtils.parseElements(new StringReader(DOCUMENT), "entry").hasNext());
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "failed to create xml: .*")
+    void testInvalidDocument() {
+        Iterator<BXml> iterator = XmlUtils.parseElements(new StringReader("<feed><entry/><entry></feed>"),
+                                                         "feed/entry");
+        Assert.assertTrue(iterator.hasNext());
+        iterator.next();
+        iterator.hasNext();
+    }
+
+    @Test
+    void testClose() {
+        XmlElementIterator iterator = new XmlElementIterator(new StringReader(DOCUMENT), "feed/{" + ATOM + "}entry");
+        Assert.assertTrue(iterator.hasNext());
+        iterator.close();
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "invalid element path: 'feed//entry'")
+    void testInvalidPath() {
+        XmlUtils.parseElements(new StringReader(DOCUMENT), "feed//entry");
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.XmlFactory;
+import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
+import io.ballerina.runtime.internal.values.XmlItem;
+import io.ballerina.runtime.internal.values.XmlValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for {@link XmlItem} values read by the xml parser.
+ */
+public class XmlItemTest {
+
+    private static final String NS = "http://ballerina.io/ns";
+    private static final String DOCUMENT = "<m:order xmlns:m=\"" + NS + "\" id=\"1\" m:status=\"open\">" +
+            "<m:item sku=\"a\">A</m:item><m:item sku=\"b\">B</m:item></m:order>";
+
+    @Test
+    void testParsedAttributes() {
+        XmlItem order = parse(DOCUMENT);
+        Assert.assertEquals(order.getAttribute("id", null).getValue(), "1");
+        Assert.assertEquals(order.getAttribute("status", NS).getValue(), "open");
+        Assert.assertEquals(order.getAttribute("status", null, "m").getValue(), "open");
+        Assert.assertNull(order.getAttribute("missing", null));
+    }
+
+    @Test
+    void testAttributesMatchAttributeMap() {
+        XmlItem order = parse(DOCUMENT);
+        Map<BString, BString> attributes = new LinkedHashMap<>();
+        order.forEachAttribute(attributes::put);
+
+        List<Map.Entry<BString, BString>> expected = new ArrayList<>(parse(DOCUMENT).getAttributesMap().entrySet());
+        Assert.assertEquals(new ArrayList<>(attributes.entrySet()), expected);
+        Assert.assertEquals(new ArrayList<>(order.getAttributesMap().entrySet()), expected);
+    }
+
+    @Test
+    void testUpdateParsedAttributes() {
+        XmlItem order = parse(DOCUMENT);
+        XmlItem copy = (XmlItem) order.copy(new HashMap<>());
+        order.setAttribute("id", null, null, "2");
+        order.removeAttribute("{" + NS + "}status");
+
+        Assert.assertEquals(order.getAttribute("id", null).getValue(), "2");
+        Assert.assertNull(order.getAttribute("status", NS));
+        Assert.assertEquals(copy.getAttribute("id", null).getValue(), "1");
+        Assert.assertEquals(copy.getAttribute("status", NS).getValue(), "open");
+        Assert.assertEquals(copy.toString(), parse(DOCUMENT).toString());
+    }
+
+    @Test
+    void testParsedNamesAreShared() {
+        XmlItem order = parse(DOCUMENT);
+        List<?> items = order.getChildrenSeq().getChildrenList();
+        Assert.assertSame(((XmlItem) items.get(0)).getQName(), ((XmlItem) items.get(1)).getQName());
+
+        XmlItem materialized = parse(DOCUMENT);
+        materialized.getAttributesMap();
+        Assert.assertEquals(order.toString(), materialized.toString());
+    }
+
+    @Test
+    void testHashCodeIsStable() {
+        XmlItem order = parse(DOCUMENT);
+        int hashCode = order.hashCode();
+        order.getAttributesMap();
+        Assert.assertEquals(order.hashCode(), hashCode);
+    }
+
+    @Test
+    void testCycleDetection() {
+        XmlItem root = parse("<a><b><c/></b></a>");
+        XmlItem b = (XmlItem) root.getChildrenSeq().getChildrenList().get(0);
+        XmlItem c = (XmlItem) b.getChildrenSeq().getChildrenList().get(0);
+        try {
+            c.setChildren(root);
+            Assert.fail("expected a cycle to be detected");
+        } catch (BallerinaException e) {
+            Assert.assertEquals(e.getDetail(), "Cycle detected");
+        }
+    }
+
+    private static XmlItem parse(String document) {
+        return (XmlItem) ((XmlValue) XmlFactory.parse(document)).getItem(0);
+    }
+}
@@ -43,13 +43,20 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.util.Flags;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.objectweb.asm.Opcodes.AASTORE;
 import static org.objectweb.asm.Opcodes.ACONST_NULL;
@@ -70,6 +77,7 @@ import static org.objectweb.asm.Opcodes.DSUB;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FSTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.I2B;
@@ -85,6 +93,7 @@ import static org.objectweb.asm.Opcodes.IFGT;
 import static org.objectweb.asm.Opcodes.IFLE;
 import static org.objectweb.asm.Opcodes.IFLT;
 import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.IF_ACMPNE;
 import static org.objectweb.asm.Opcodes.IF_ICMPEQ;
 import static org.objectweb.asm.Opcodes.IF_ICMPGE;
 import static org.objectweb.asm.Opcodes.IF_ICMPGT;
@@ -93,6 +102,7 @@ import static org.objectweb.asm.Opcodes.IF_ICMPLT;
 import static org.objectweb.asm.Opcodes.IF_ICMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INEG;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -114,6 +124,8 @@ import static org.objectweb.asm.Opcodes.LSTORE;
 import static org.objectweb.asm.Opcodes.LUSHR;
 import static org.objectweb.asm.Opcodes.LXOR;
 import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen.getTargetClass;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.toNameString;
@@ -122,6 +134,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIO
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE_IMPL;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BAL_OPTIONAL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BERROR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BYTE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_INITIAL_VALUE_ENTRY;
@@ -195,6 +208,9 @@ public class JvmInstructionGen {
     private final SymbolTable symbolTable;
     private final AsyncDataCollector asyncDataCollector;
     private final JvmTypeTestGen typeTestGen;
+    private final Map<BIRNode.BIRVariableDcl, String> constantFieldNames = new HashMap<>();
+    private List<BIRNode.BIRTypeDefinition> typeDefs = Collections.emptyList();
+    private Set<BType> recordTypesWithValueClass;
 
     public JvmInstructionGen(MethodVisitor mv, BIRVarToJVMIndexMap indexMap, PackageID currentPackage,
                              JvmPackageGen jvmPackageGen, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
@@ -1271,7 +1287,154 @@ public class JvmInstructionGen {
                            String.format("(L%s;)V", B_MAP), false);
     }
 
+    /**
+     * Collects the temporary variables of the given function which are only ever assigned a string constant, so that
+     * record field accesses keyed by them can be resolved to the generated record class fields at compile time.
+     *
+     * @param func     function whose instructions are generated by this instance
+     * @param typeDefs type definitions of the current module
+     */
+    public void resolveConstantFieldNames(BIRNode.BIRFunction func, List<BIRNode.BIRTypeDefinition> typeDefs) {
+        this.typeDefs = typeDefs;
+        Set<BIRNode.BIRVariableDcl> reassignedVars = new HashSet<>();
+        for (BIRNode.BIRBasicBlock basicBlock : func.basicBlocks) {
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (instruction.lhsOp == null) {
+                    continue;
+                }
+                BIRNode.BIRVariableDcl varDcl = instruction.lhsOp.variableDcl;
+                if (instruction.kind == InstructionKind.CONST_LOAD && varDcl.kind == VarKind.TEMP &&
+                        TypeTags.isStringTypeTag(((BIRNonTerminator.ConstantLoad) instruction).type.tag) &&
+                        !constantFieldNames.containsKey(varDcl)) {
+                    constantFieldNames.put(varDcl, String.valueOf(((BIRNonTerminator.ConstantLoad) instruction).value));
+                } else {
+                    reassignedVars.add(varDcl);
+                }
+            }
+            if (basicBlock.terminator != null && basicBlock.terminator.lhsOp != null) {
+                reassignedVars.add(basicBlock.terminator.lhsOp.variableDcl);
+            }
+        }
+        constantFieldNames.keySet().removeAll(reassignedVars);
+    }
+
+    private BField getDirectlyAccessibleField(BType varRefType, BIRNode.BIRVariableDcl keyVarDcl) {
+        if (varRefType.tag != TypeTags.RECORD || !varRefType.tsymbol.pkgID.equals(currentPackage)) {
+            return null;
+        }
+        String fieldName = constantFieldNames.get(keyVarDcl);
+        if (fieldName == null || !hasRecordValueClass(varRefType)) {
+            return null;
+        }
+        return ((BRecordType) varRefType).fields.get(fieldName);
+    }
+
+    private boolean hasRecordValueClass(BType recordType) {
+        if (recordTypesWithValueClass == null) {
+            recordTypesWithValueClass = new HashSet<>();
+            for (BIRNode.BIRTypeDefinition typeDef : typeDefs) {
+                if (typeDef.type.tag == TypeTags.RECORD &&
+                        typeDef.internalName.value.equals(toNameString(typeDef.type))) {
+                    recordTypesWithValueClass.add(typeDef.type);
+                }
+            }
+        }
+        return recordTypesWithValueClass.contains(recordType);
+    }
+
+    private boolean isOptionalRecordField(BField field) {
+        return (field.symbol.flags & BAL_OPTIONAL) == BAL_OPTIONAL;
+    }
+
+    private String getFieldIsPresentFlagName(String fieldName) {
+        return String.format("$%s$isPresent", fieldName);
+    }
+
+    private void generateDirectRecordFieldStore(FieldAccess mapStoreIns, BField field, Label fallbackLabel) {
+        BIRNode.BIRVariableDcl mapVarDcl = mapStoreIns.lhsOp.variableDcl;
+        BType recordType = mapVarDcl.type;
+        String className = getTypeValueClassName(recordType.tsymbol.pkgID, toNameString(recordType));
+
+        // the value must be an instance of the generated class which still has its declared (mutable) type, since
+        // the runtime type of a frozen value is replaced with its immutable counterpart
+        this.loadVar(mapVarDcl);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, fallbackLabel);
+        this.loadVar(mapVarDcl);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, className, "getType", String.format("()L%s;", TYPE), false);
+        jvmTypeGen.loadType(this.mv, recordType);
+        this.mv.visitJumpInsn(IF_ACMPNE, fallbackLabel);
+
+        String fieldName = field.name.value;
+        this.loadVar(mapVarDcl);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        BIRNode.BIRVariableDcl valueVarDcl = mapStoreIns.rhsOp.variableDcl;
+        this.loadVar(valueVarDcl);
+        jvmCastGen.addBoxInsn(this.mv, valueVarDcl.type);
+        jvmCastGen.addUnboxInsn(this.mv, field.type);
+        this.mv.visitFieldInsn(PUTFIELD, className, fieldName, getTypeDesc(field.type));
+
+        if (isOptionalRecordField(field)) {
+            this.loadVar(mapVarDcl);
+            this.mv.visitTypeInsn(CHECKCAST, className);
+            this.mv.visitInsn(ICONST_1);
+            this.mv.visitFieldInsn(PUTFIELD, className, getFieldIsPresentFlagName(fieldName),
+                                   getTypeDesc(symbolTable.booleanType));
+        }
+    }
+
+    private void generateDirectRecordFieldLoad(FieldAccess mapLoadIns, BField field, Label fallbackLabel) {
+        BIRNode.BIRVariableDcl mapVarDcl = mapLoadIns.rhsOp.variableDcl;
+        BType recordType = mapVarDcl.type;
+        String className = getTypeValueClassName(recordType.tsymbol.pkgID, toNameString(recordType));
+
+        this.loadVar(mapVarDcl);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, fallbackLabel);
+
+        String fieldName = field.name.value;
+        Label loadedLabel = new Label();
+        this.loadVar(mapVarDcl);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        if (isOptionalRecordField(field)) {
+            // an absent optional field reads as nil, same as `get` of the generated class
+            Label ifPresentLabel = new Label();
+            this.mv.visitInsn(DUP);
+            this.mv.visitFieldInsn(GETFIELD, className, getFieldIsPresentFlagName(fieldName),
+                                   getTypeDesc(symbolTable.booleanType));
+            this.mv.visitJumpInsn(IFNE, ifPresentLabel);
+            this.mv.visitInsn(POP);
+            this.mv.visitInsn(ACONST_NULL);
+            this.mv.visitJumpInsn(GOTO, loadedLabel);
+            this.mv.visitLabel(ifPresentLabel);
+        }
+        this.mv.visitFieldInsn(GETFIELD, className, fieldName, getTypeDesc(field.type));
+        jvmCastGen.addBoxInsn(this.mv, field.type);
+        this.mv.visitLabel(loadedLabel);
+    }
+
     void generateMapStoreIns(BIRNonTerminator.FieldAccess mapStoreIns) {
+        BField directField = null;
+        if (!mapStoreIns.onInitialization) {
+            directField = getDirectlyAccessibleField(mapStoreIns.lhsOp.variableDcl.type,
+                                                     mapStoreIns.keyOp.variableDcl);
+        }
+        if (directField != null && (directField.symbol.flags & Flags.READONLY) != Flags.READONLY &&
+                (mapStoreIns.lhsOp.variableDcl.type.flags & Flags.READONLY) != Flags.READONLY) {
+            Label fallbackLabel = new Label();
+            Label endLabel = new Label();
+            generateDirectRecordFieldStore(mapStoreIns, directField, fallbackLabel);
+            this.mv.visitJumpInsn(GOTO, endLabel);
+            this.mv.visitLabel(fallbackLabel);
+            generateMapStoreThroughMap(mapStoreIns);
+            this.mv.visitLabel(endLabel);
+            return;
+        }
+        generateMapStoreThroughMap(mapStoreIns);
+    }
+
+    private void generateMapStoreThroughMap(BIRNonTerminator.FieldAccess mapStoreIns) {
         // visit map_ref
         this.loadVar(mapStoreIns.lhsOp.variableDcl);
         BType varRefType = mapStoreIns.lhsOp.variableDcl.type;
@@ -1299,9 +1462,22 @@ public class JvmInstructionGen {
     }
 
     void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns) {
+        BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
+        Label endLabel = null;
+        BField directField = null;
+        if (!mapLoadIns.fillingRead) {
+            directField = getDirectlyAccessibleField(varRefType, mapLoadIns.keyOp.variableDcl);
+        }
+        if (directField != null) {
+            Label fallbackLabel = new Label();
+            endLabel = new Label();
+            generateDirectRecordFieldLoad(mapLoadIns, directField, fallbackLabel);
+            this.mv.visitJumpInsn(GOTO, endLabel);
+            this.mv.visitLabel(fallbackLabel);
+        }
+
         // visit map_ref
         this.loadVar(mapLoadIns.rhsOp.variableDcl);
-        BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
         jvmCastGen.addUnboxInsn(this.mv, varRefType);
 
         // visit key_expr
@@ -1329,6 +1505,10 @@ public class JvmInstructionGen {
             }
         }
 
+        if (endLabel != null) {
+            this.mv.visitLabel(endLabel);
+        }
+
         // store in the target reg
         BType targetType = mapLoadIns.lhsOp.variableDcl.type;
         jvmCastGen.addUnboxInsn(this.mv, targetType);
@@ -331,11 +331,6 @@ public class JvmPackageGen {
         mv.visitFieldInsn(PUTSTATIC, moduleInitClass, CURRENT_MODULE_VAR_NAME, String.format("L%s;", MODULE));
     }
 
-    static String computeLockNameFromString(String varName) {
-
-        return "$lock" + varName;
-    }
-
     public static String cleanupPackageName(String pkgName) {
 
         int index = pkgName.lastIndexOf("/");
@@ -40,8 +40,11 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarScope;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BAttachedFunction;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BObjectTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BFutureType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
@@ -49,6 +52,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.compiler.util.Unifier;
+import org.wso2.ballerinalang.util.Flags;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -79,6 +83,7 @@ import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.IFNONNULL;
 import static org.objectweb.asm.Opcodes.IFNULL;
 import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -91,6 +96,7 @@ import static org.objectweb.asm.Opcodes.LRETURN;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.POP;
 import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.toNameString;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATION_UTILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_LIST;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BAL_ENV;
@@ -148,6 +154,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.WD_CHANNE
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.WORKER_DATA_CHANNEL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.WORKER_UTILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmInstructionGen.addJUnboxInsn;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeValueClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropMethodGen.genVarArg;
 
 /**
@@ -776,6 +783,112 @@ public class JvmTerminatorGen {
     }
 
     private void genVirtualCall(BIRTerminator.Call callIns, boolean isBuiltInModule, int localVarOffset) {
+        BAttachedFunction attachedFunc = isBuiltInModule ? null : getDirectlyCallableMethod(callIns);
+        if (attachedFunc == null) {
+            genObjectCallMethodCall(callIns, isBuiltInModule, localVarOffset);
+            return;
+        }
+
+        // If the object is an instance of the generated class of its static type, invoke the method directly.
+        // Object types are structural, so any other object falls back to the `call` method.
+        BIRNode.BIRVariableDcl selfArg = callIns.args.get(0).variableDcl;
+        String className = getTypeValueClassName(JvmCodeGenUtil.getPackageName(selfArg.type.tsymbol.pkgID),
+                                                 toNameString(selfArg.type));
+        Label callMethodLabel = new Label();
+        Label endLabel = new Label();
+        this.loadVar(selfArg);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, callMethodLabel);
+
+        this.loadVar(selfArg);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        this.mv.visitVarInsn(ALOAD, localVarOffset);
+        int argsCount = callIns.args.size();
+        for (int i = 1; i < argsCount; i++) {
+            BIRArgument arg = callIns.args.get(i);
+            this.loadArgument(arg);
+            this.loadStateOfArgument(arg, false);
+        }
+        BType retType = attachedFunc.type.retType;
+        String methodDesc = JvmCodeGenUtil.getMethodDesc(getParamTypesWithDefaultableBooleans(attachedFunc.type),
+                                                         retType);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, className,
+                                JvmCodeGenUtil.rewriteVirtualCallTypeName(callIns.name.value), methodDesc, false);
+        BType lhsType = callIns.lhsOp.variableDcl.type;
+        if (!JvmCodeGenUtil.generateReturnType(retType).equals(")" + JvmCodeGenUtil.getArgTypeSignature(lhsType))) {
+            jvmCastGen.addBoxInsn(this.mv, retType);
+            jvmCastGen.addUnboxInsn(this.mv, lhsType);
+        }
+        this.mv.visitJumpInsn(GOTO, endLabel);
+
+        this.mv.visitLabel(callMethodLabel);
+        genObjectCallMethodCall(callIns, false, localVarOffset);
+        this.mv.visitLabel(endLabel);
+    }
+
+    /**
+     * Returns the method that can be invoked directly on the generated class of the receiver's static type, or
+     * null if the call has to go through the reflective `call` method.
+     */
+    private BAttachedFunction getDirectlyCallableMethod(BIRTerminator.Call callIns) {
+        if (callIns.lhsOp == null) {
+            return null;
+        }
+        BType selfType = callIns.args.get(0).variableDcl.type;
+        if (selfType.tag != TypeTags.OBJECT || !(selfType.tsymbol instanceof BObjectTypeSymbol) ||
+                !Symbols.isFlagOn(selfType.tsymbol.flags, Flags.CLASS)) {
+            return null;
+        }
+        String methodName = JvmCodeGenUtil.cleanupObjectTypeName(callIns.name.value);
+        String encodedMethodName = JvmCodeGenUtil.rewriteVirtualCallTypeName(callIns.name.value);
+        List<BAttachedFunction> attachedFuncs = ((BObjectTypeSymbol) selfType.tsymbol).attachedFuncs;
+        if (attachedFuncs == null) {
+            return null;
+        }
+        for (BAttachedFunction attachedFunc : attachedFuncs) {
+            String funcName = JvmCodeGenUtil.cleanupObjectTypeName(attachedFunc.funcName.value);
+            if (!funcName.equals(methodName) && !funcName.equals(encodedMethodName)) {
+                continue;
+            }
+            if (attachedFunc.symbol == null || Symbols.isNative(attachedFunc.symbol) ||
+                    !isArgsMatchingParams(callIns, attachedFunc.type)) {
+                return null;
+            }
+            return attachedFunc;
+        }
+        return null;
+    }
+
+    private boolean isArgsMatchingParams(BIRTerminator.Call callIns, BInvokableType funcType) {
+        List<BType> paramTypes = new ArrayList<>(funcType.paramTypes);
+        if (funcType.restType != null) {
+            paramTypes.add(funcType.restType);
+        }
+        if (callIns.args.size() - 1 != paramTypes.size()) {
+            return false;
+        }
+        for (int i = 0; i < paramTypes.size(); i++) {
+            BType argType = callIns.args.get(i + 1).variableDcl.type;
+            if (!JvmCodeGenUtil.getArgTypeSignature(argType).equals(
+                    JvmCodeGenUtil.getArgTypeSignature(paramTypes.get(i)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<BType> getParamTypesWithDefaultableBooleans(BInvokableType funcType) {
+        List<BType> params = new ArrayList<>(funcType.paramTypes);
+        if (funcType.restType != null) {
+            params.add(funcType.restType);
+        }
+        for (int j = params.size() - 1; j >= 0; j--) {
+            params.add(j + 1, symbolTable.booleanType);
+        }
+        return params;
+    }
+
+    private void genObjectCallMethodCall(BIRTerminator.Call callIns, boolean isBuiltInModule, int localVarOffset) {
         // load self
         BIRNode.BIRVariableDcl selfArg = callIns.args.get(0).variableDcl;
         this.loadVar(selfArg);
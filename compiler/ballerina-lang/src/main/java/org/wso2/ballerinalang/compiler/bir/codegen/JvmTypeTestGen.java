@@ -20,6 +20,7 @@ package org.wso2.ballerinalang.compiler.bir.codegen;
 
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
@@ -27,16 +28,27 @@ import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 
+import static org.objectweb.asm.Opcodes.CHECKCAST;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
+import static org.objectweb.asm.Opcodes.IFEQ;
 import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.IFNONNULL;
 import static org.objectweb.asm.Opcodes.IFNULL;
+import static org.objectweb.asm.Opcodes.IF_ACMPNE;
 import static org.objectweb.asm.Opcodes.INSTANCEOF;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BERROR;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BOOLEAN_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.DECIMAL_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.DOUBLE_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.INT_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LONG_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.REF_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE_CHECKER;
 
@@ -75,12 +87,80 @@ public class JvmTypeTestGen {
             handleErrorUnionType(typeTestIns);
             return;
         }
+        if (isReferenceType(sourceType)) {
+            if (canOptimizeBasicTypeCheck(targetType)) {
+                handleBasicType(typeTestIns);
+                return;
+            }
+            if (targetType.tag == TypeTags.RECORD || targetType.tag == TypeTags.OBJECT) {
+                handleStructuredType(typeTestIns);
+                return;
+            }
+        }
+        generateCheckIsType(sourceValue, targetType);
+        jvmInstructionGen.storeToVar(typeTestIns.lhsOp.variableDcl);
+    }
+
+    private void generateCheckIsType(BIRNode.BIRVariableDcl sourceValue, BType targetType) {
         jvmInstructionGen.loadVar(sourceValue);
         jvmTypeGen.loadType(this.mv, targetType);
 
         this.mv.visitMethodInsn(INVOKESTATIC, TYPE_CHECKER, "checkIsType",
                                 String.format("(L%s;L%s;)Z", OBJECT, TYPE), false);
-        jvmInstructionGen.storeToVar(typeTestIns.lhsOp.variableDcl);
+    }
+
+    /**
+     * Checks whether values of the declared variable type are held as JVM objects, so that their JVM class can be
+     * tested with 'instanceof'.
+     *
+     * @param sourceType the declared variable type
+     * @return whether the variable holds JVM objects
+     */
+    private boolean isReferenceType(BType sourceType) {
+        switch (sourceType.tag) {
+            case TypeTags.UNION:
+            case TypeTags.ANY:
+            case TypeTags.ANYDATA:
+            case TypeTags.JSON:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Checks if the type tested for is a basic type, or a union of basic types, whose values are all represented by
+     * a JVM class of their own. Example instructions include 'a is int', 'a is string' and 'a is int|string?'. Subtypes
+     * of int and string such as byte or string:Char are not included, since whether a value belongs to them depends
+     * on the value.
+     *
+     * @param targetType the RHS type in the type check instruction. Type to be tested for
+     * @return whether instruction could be optimized using 'instanceof` checks
+     */
+    private boolean canOptimizeBasicTypeCheck(BType targetType) {
+        if (targetType.tag != TypeTags.UNION) {
+            return isBasicType(targetType);
+        }
+        for (BType memberType : ((BUnionType) targetType).getMemberTypes()) {
+            if (!isBasicType(memberType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isBasicType(BType type) {
+        switch (type.tag) {
+            case TypeTags.INT:
+            case TypeTags.FLOAT:
+            case TypeTags.DECIMAL:
+            case TypeTags.STRING:
+            case TypeTags.BOOLEAN:
+            case TypeTags.NIL:
+                return true;
+            default:
+                return false;
+        }
     }
 
     /**
@@ -204,6 +284,83 @@ public class JvmTypeTestGen {
         jvmInstructionGen.storeToVar(typeTestIns.lhsOp.variableDcl);
     }
 
+    private void handleBasicType(BIRNonTerminator.TypeTest typeTestIns) {
+        Label trueLabel = new Label();
+        BType targetType = typeTestIns.type;
+        if (targetType.tag == TypeTags.UNION) {
+            for (BType memberType : ((BUnionType) targetType).getMemberTypes()) {
+                generateBasicTypeCheck(typeTestIns.rhsOp.variableDcl, memberType, trueLabel);
+            }
+        } else {
+            generateBasicTypeCheck(typeTestIns.rhsOp.variableDcl, targetType, trueLabel);
+        }
+        mv.visitInsn(ICONST_0);
+        Label endLabel = new Label();
+        mv.visitJumpInsn(GOTO, endLabel);
+        mv.visitLabel(trueLabel);
+        mv.visitInsn(ICONST_1);
+        mv.visitLabel(endLabel);
+        jvmInstructionGen.storeToVar(typeTestIns.lhsOp.variableDcl);
+    }
+
+    private void generateBasicTypeCheck(BIRNode.BIRVariableDcl sourceValue, BType type, Label trueLabel) {
+        switch (type.tag) {
+            case TypeTags.INT:
+                // Byte values are ints as well, and are held as integers
+                generateInstanceOfCheck(sourceValue, LONG_VALUE, trueLabel);
+                generateInstanceOfCheck(sourceValue, INT_VALUE, trueLabel);
+                break;
+            case TypeTags.FLOAT:
+                generateInstanceOfCheck(sourceValue, DOUBLE_VALUE, trueLabel);
+                break;
+            case TypeTags.DECIMAL:
+                generateInstanceOfCheck(sourceValue, DECIMAL_VALUE, trueLabel);
+                break;
+            case TypeTags.STRING:
+                generateInstanceOfCheck(sourceValue, B_STRING_VALUE, trueLabel);
+                break;
+            case TypeTags.BOOLEAN:
+                generateInstanceOfCheck(sourceValue, BOOLEAN_VALUE, trueLabel);
+                break;
+            default:
+                jvmInstructionGen.loadVar(sourceValue);
+                mv.visitJumpInsn(IFNULL, trueLabel);
+        }
+    }
+
+    private void generateInstanceOfCheck(BIRNode.BIRVariableDcl sourceValue, String className, Label trueLabel) {
+        jvmInstructionGen.loadVar(sourceValue);
+        mv.visitTypeInsn(INSTANCEOF, className);
+        mv.visitJumpInsn(IFNE, trueLabel);
+    }
+
+    /**
+     * Generates the check for a record or an object type, which compares the type of the value with the type tested
+     * for before calling the TypeChecker. A value created with the type tested for, which is the common case, then
+     * needs no structural check.
+     *
+     * @param typeTestIns type test instruction
+     */
+    private void handleStructuredType(BIRNonTerminator.TypeTest typeTestIns) {
+        BIRNode.BIRVariableDcl sourceValue = typeTestIns.rhsOp.variableDcl;
+        Label checkIsTypeLabel = new Label();
+        jvmInstructionGen.loadVar(sourceValue);
+        mv.visitTypeInsn(INSTANCEOF, REF_VALUE);
+        mv.visitJumpInsn(IFEQ, checkIsTypeLabel);
+        jvmInstructionGen.loadVar(sourceValue);
+        mv.visitTypeInsn(CHECKCAST, REF_VALUE);
+        mv.visitMethodInsn(INVOKEINTERFACE, REF_VALUE, "getType", String.format("()L%s;", TYPE), true);
+        jvmTypeGen.loadType(this.mv, typeTestIns.type);
+        mv.visitJumpInsn(IF_ACMPNE, checkIsTypeLabel);
+        mv.visitInsn(ICONST_1);
+        Label endLabel = new Label();
+        mv.visitJumpInsn(GOTO, endLabel);
+        mv.visitLabel(checkIsTypeLabel);
+        generateCheckIsType(sourceValue, typeTestIns.type);
+        mv.visitLabel(endLabel);
+        jvmInstructionGen.storeToVar(typeTestIns.lhsOp.variableDcl);
+    }
+
     private void generateNegateBoolean() {
         Label ifLabel = new Label();
         mv.visitJumpInsn(IFNE, ifLabel);
@@ -58,7 +58,6 @@ import java.util.Map;
 import static io.ballerina.runtime.api.utils.IdentifierUtils.decodeIdentifier;
 import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.AALOAD;
-import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
@@ -109,7 +108,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_TO_ST
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_SET;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LIST;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_ENTRY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_SIMPLE_ENTRY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE;
@@ -131,7 +129,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.UNSUPPORT
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VALUE_CLASS_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.addDefaultableBooleanVarsToSignature;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.enrichWithDefaultableParamInits;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmPackageGen.computeLockNameFromString;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen.getTypeDesc;
 import static org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethodGen.desugarOldExternFuncs;
 import static org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropMethodGen.desugarInteropFuncs;
@@ -299,10 +296,6 @@ class JvmValueGen {
             }
             FieldVisitor fvb = cw.visitField(0, field.name.value, getTypeDesc(field.type), null, null);
             fvb.visitEnd();
-            String lockClass = "L" + LOCK_VALUE + ";";
-            FieldVisitor fv = cw.visitField(ACC_PUBLIC + ACC_FINAL, computeLockNameFromString(field.name.value),
-                                            lockClass, null, null);
-            fv.visitEnd();
         }
     }
 
@@ -319,7 +312,7 @@ class JvmValueGen {
         }
     }
 
-    private void createObjectInit(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void createObjectInit(ClassWriter cw) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, JVM_INIT_METHOD, String.format("(L%s;)V", OBJECT_TYPE_IMPL), null,
                                           null);
@@ -334,21 +327,6 @@ class JvmValueGen {
                                                                                                 OBJECT_TYPE_IMPL),
                 false);
 
-        String lockClass = "L" + LOCK_VALUE + ";";
-        for (BField field : fields.values()) {
-            if (field == null) {
-                continue;
-            }
-
-            Label fLabel = new Label();
-            mv.visitLabel(fLabel);
-            mv.visitVarInsn(ALOAD, 0);
-            mv.visitTypeInsn(NEW, LOCK_VALUE);
-            mv.visitInsn(DUP);
-            mv.visitMethodInsn(INVOKESPECIAL, LOCK_VALUE, JVM_INIT_METHOD, "()V", false);
-            mv.visitFieldInsn(PUTFIELD, className, computeLockNameFromString(field.name.value), lockClass);
-        }
-
         mv.visitInsn(RETURN);
         mv.visitMaxs(5, 5);
         mv.visitEnd();
@@ -1399,7 +1377,7 @@ class JvmValueGen {
                                      stringConstantsGen, asyncDataCollector);
         }
 
-        this.createObjectInit(cw, fields, className);
+        this.createObjectInit(cw);
         this.createCallMethod(cw, attachedFuncs, className, jvmCastGen);
         this.createObjectGetMethod(cw, fields, className, jvmCastGen);
         this.createObjectSetMethod(cw, fields, className, jvmCastGen);
@@ -58,7 +58,6 @@ import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.NEW;
-import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CONFIGURATION_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CONFIGURE_INIT;
@@ -251,7 +250,6 @@ public class MainMethodGen {
     private void storeFuture(BIRVarToJVMIndexMap indexMap, MethodVisitor mv, String futureVar) {
         int mainFutureVarIndex = indexMap.addIfNotExists(futureVar, symbolTable.anyType);
         mv.visitVarInsn(ASTORE, mainFutureVarIndex);
-        mv.visitVarInsn(ALOAD, mainFutureVarIndex);
     }
 
     private void loadCLIArgsForMain(MethodVisitor mv, List<BIRNode.BIRFunctionParameter> params,
@@ -364,12 +362,6 @@ public class MainMethodGen {
         jvmTypeGen.loadType(mv, anyType);
         MethodGenUtils.submitToScheduler(mv, initClass, funcName, asyncDataCollector);
         storeFuture(indexMap, mv, futureVar);
-        mv.visitFieldInsn(GETFIELD, JvmConstants.FUTURE_VALUE, JvmConstants.STRAND,
-                          String.format("L%s;", JvmConstants.STRAND_CLASS));
-        mv.visitIntInsn(BIPUSH, 100);
-        mv.visitTypeInsn(ANEWARRAY, JvmConstants.OBJECT);
-        mv.visitFieldInsn(PUTFIELD, JvmConstants.STRAND_CLASS, MethodGenUtils.FRAMES,
-                          String.format("[L%s;", JvmConstants.OBJECT));
 
         startScheduler(indexMap.get(SCHEDULER_VAR), mv);
         handleErrorFromFutureValue(mv, futureVar);
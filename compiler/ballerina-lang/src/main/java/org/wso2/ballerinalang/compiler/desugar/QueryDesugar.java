@@ -22,23 +22,29 @@ import org.ballerinalang.model.clauses.OrderKeyNode;
 import org.ballerinalang.model.elements.Flag;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
 import org.ballerinalang.model.types.TypeKind;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.SymbolResolver;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.Scope;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolEnv;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BOperatorSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BRecordTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStreamType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStructureType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTypedescType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
@@ -172,10 +178,12 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangLetVariable;
 import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangValueType;
+import org.wso2.ballerinalang.compiler.util.BArrayState;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.util.ArrayList;
@@ -201,6 +209,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_OUTER_JOIN_FUNCTION = new Name("createOuterJoinFunction");
     private static final Name QUERY_CREATE_FILTER_FUNCTION = new Name("createFilterFunction");
     private static final Name QUERY_CREATE_ORDER_BY_FUNCTION = new Name("createOrderByFunction");
+    private static final Name QUERY_CREATE_TOP_K_ORDER_BY_FUNCTION = new Name("createTopKOrderByFunction");
     private static final Name QUERY_CREATE_SELECT_FUNCTION = new Name("createSelectFunction");
     private static final Name QUERY_CREATE_DO_FUNCTION = new Name("createDoFunction");
     private static final Name QUERY_CREATE_LIMIT_FUNCTION = new Name("createLimitFunction");
@@ -211,6 +220,8 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_TO_XML_FUNCTION = new Name("toXML");
     private static final Name QUERY_ADD_TO_TABLE_FUNCTION = new Name("addToTable");
     private static final Name QUERY_GET_STREAM_FROM_PIPELINE_FUNCTION = new Name("getStreamFromPipeline");
+    private static final Name QUERY_GET_TABLE_ROWS_WITH_FIELD_VALUE_FUNCTION = new Name("getTableRowsWithFieldValue");
+    private static final Name QUERY_GET_TABLE_ROWS_IN_FIELD_RANGE_FUNCTION = new Name("getTableRowsInFieldRange");
     private static final String FRAME_PARAMETER_NAME = "$frame$";
     private static final CompilerContext.Key<QueryDesugar> QUERY_DESUGAR_KEY = new CompilerContext.Key<>();
     private BLangExpression onConflictExpr;
@@ -256,6 +267,12 @@ public class QueryDesugar extends BLangNodeVisitor {
         List<BLangNode> clauses = queryExpr.getQueryClauses();
         Location pos = clauses.get(0).pos;
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
+        if (!queryExpr.isStream) {
+            useTableFieldIndex(clauses);
+        }
+        if (canDesugarToLoop(queryExpr, env)) {
+            return desugarToLoop(queryExpr, env);
+        }
         BLangVariableReference streamRef = buildStream(clauses, queryExpr.getBType(), env, queryBlock);
         BLangStatementExpression streamStmtExpr;
         if (queryExpr.isStream) {
@@ -345,7 +362,9 @@ public class QueryDesugar extends BLangNodeVisitor {
                 initFromClause.collection, resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause);
         addStreamFunction(block, initPipeline, initFrom);
-        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+        BLangVariableReference orderByLimitFunc = null;
+        for (int i = 1; i < clauses.size(); i++) {
+            BLangNode clause = clauses.get(i);
             switch (clause.getKind()) {
                 case FROM:
                     BLangFromClause fromClause = (BLangFromClause) clause;
@@ -372,7 +391,14 @@ public class QueryDesugar extends BLangNodeVisitor {
                     addStreamFunction(block, initPipeline, whereFunc);
                     break;
                 case ORDER_BY:
-                    BLangVariableReference orderFunc = addOrderByFunction(block, (BLangOrderByClause) clause);
+                    BLangNode nextClause = i + 1 < clauses.size() ? clauses.get(i + 1) : null;
+                    if (nextClause != null && nextClause.getKind() == NodeKind.LIMIT) {
+                        // The limit function is created ahead of the order by function, so that only the frames
+                        // within the limit are kept while ordering.
+                        orderByLimitFunc = addLimitFunction(block, (BLangLimitClause) nextClause);
+                    }
+                    BLangVariableReference orderFunc = addOrderByFunction(block, (BLangOrderByClause) clause,
+                            orderByLimitFunc);
                     addStreamFunction(block, initPipeline, orderFunc);
                     break;
                 case SELECT:
@@ -384,7 +410,9 @@ public class QueryDesugar extends BLangNodeVisitor {
                     addStreamFunction(block, initPipeline, doFunc);
                     break;
                 case LIMIT:
-                    BLangVariableReference limitFunc = addLimitFunction(block, (BLangLimitClause) clause);
+                    BLangVariableReference limitFunc = orderByLimitFunc != null ? orderByLimitFunc :
+                            addLimitFunction(block, (BLangLimitClause) clause);
+                    orderByLimitFunc = null;
                     addStreamFunction(block, initPipeline, limitFunc);
                     break;
                 case ON_CONFLICT:
@@ -396,6 +424,378 @@ public class QueryDesugar extends BLangNodeVisitor {
         return addGetStreamFromPipeline(block, initPipeline);
     }
 
+    // ---- Util methods to desugar simple query expressions into a single loop. ---- //
+    /**
+     * Checks whether the query expression can be desugared into a single loop over its collection, instead of a
+     * stream pipeline passing a frame per row through a function per clause. This is the case for query expressions
+     * within a function that construct a list from a single from clause over a list, mapping, table, string or integer
+     * range, followed only by let and where clauses and the select clause.
+     *
+     * @param queryExpr query expression to be desugared.
+     * @param env       symbol env.
+     * @return whether the query expression can be desugared into a loop.
+     */
+    private boolean canDesugarToLoop(BLangQueryExpr queryExpr, SymbolEnv env) {
+        BType resultType = queryExpr.getBType();
+        if (queryExpr.isStream || queryExpr.isTable || resultType.tag != TypeTags.ARRAY ||
+                ((BArrayType) resultType).state != BArrayState.OPEN ||
+                Symbols.isFlagOn(resultType.flags, Flags.READONLY) ||
+                (env.scope.owner.tag & SymTag.INVOKABLE) != SymTag.INVOKABLE) {
+            return false;
+        }
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        if (!isLoopCollection(((BLangFromClause) clauses.get(0)).collection)) {
+            return false;
+        }
+        for (BLangNode clause : clauses.subList(1, clauses.size() - 1)) {
+            if (clause.getKind() != NodeKind.WHERE && clause.getKind() != NodeKind.LET_CLAUSE) {
+                return false;
+            }
+        }
+        return clauses.get(clauses.size() - 1).getKind() == NodeKind.SELECT;
+    }
+
+    private boolean isLoopCollection(BLangExpression collection) {
+        BType collectionType = collection.getBType();
+        switch (collectionType.tag) {
+            case TypeTags.ARRAY:
+            case TypeTags.TUPLE:
+            case TypeTags.MAP:
+            case TypeTags.TABLE:
+            case TypeTags.STRING:
+                return true;
+            case TypeTags.OBJECT:
+                return types.isSameType(collectionType, symTable.intRangeType);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Desugar a query expression accepted by {@link #canDesugarToLoop} into a loop.
+     * int[] x = from var a in as let var b = a * 2 where b > 0 select b + 1;
+     * is desugared to
+     * int[] $result$ = [];
+     * int $count$ = 0;
+     * foreach var a in as {
+     *     var b = a * 2;
+     *     if (b > 0) {
+     *         $result$[$count$] = b + 1;
+     *         $count$ = $count$ + 1;
+     *     }
+     * }
+     *
+     * @param queryExpr query expression to be desugared.
+     * @param env       symbol env.
+     * @return desugared query expression.
+     */
+    private BLangStatementExpression desugarToLoop(BLangQueryExpr queryExpr, SymbolEnv env) {
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        Location pos = fromClause.pos;
+        BSymbol owner = env.scope.owner;
+        BArrayType resultType = (BArrayType) queryExpr.getBType();
+        BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
+
+        BLangArrayLiteral emptyArray = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
+        emptyArray.exprs = new ArrayList<>();
+        emptyArray.setBType(resultType);
+        BVarSymbol resultSymbol = addLoopStateVariable(queryBlock, pos, resultType, emptyArray, owner);
+        BVarSymbol countSymbol = addLoopStateVariable(queryBlock, pos, symTable.intType,
+                ASTBuilderUtil.createLiteral(pos, symTable.intType, 0L), owner);
+
+        BLangForeach foreach = (BLangForeach) TreeBuilder.createForeachNode();
+        foreach.pos = pos;
+        foreach.collection = fromClause.collection;
+        foreach.variableDefinitionNode = fromClause.variableDefinitionNode;
+        foreach.isDeclaredWithVar = fromClause.isDeclaredWithVar;
+        foreach.varType = fromClause.varType;
+        foreach.resultType = fromClause.resultType;
+        foreach.nillableResultType = fromClause.nillableResultType;
+        foreach.body = createLoopBlock(pos, owner);
+        defineLoopVariable(foreach.body, (BLangVariable) fromClause.variableDefinitionNode.getVariable(), owner);
+        queryBlock.addStatement(foreach);
+
+        BLangBlockStmt loopBlock = foreach.body;
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        loopBlock.addStatement((BLangStatement) letVariable.definitionNode);
+                        defineLoopVariable(loopBlock, (BLangVariable) letVariable.definitionNode.getVariable(),
+                                owner);
+                    }
+                    break;
+                case WHERE:
+                    BLangBlockStmt filteredBlock = createLoopBlock(clause.pos, owner);
+                    loopBlock.addStatement(ASTBuilderUtil.createIfElseStmt(clause.pos,
+                            ((BLangWhereClause) clause).expression, filteredBlock, null));
+                    loopBlock = filteredBlock;
+                    break;
+                case SELECT:
+                    // $result$[$count$] = select-expr;
+                    BLangIndexBasedAccess resultAccessExpr = ASTBuilderUtil.createIndexAccessExpr(
+                            ASTBuilderUtil.createVariableRef(clause.pos, resultSymbol),
+                            ASTBuilderUtil.createVariableRef(clause.pos, countSymbol));
+                    resultAccessExpr.pos = clause.pos;
+                    resultAccessExpr.setBType(resultType.eType);
+                    loopBlock.addStatement(ASTBuilderUtil.createAssignmentStmt(clause.pos, resultAccessExpr,
+                            desugar.addConversionExprIfRequired(((BLangSelectClause) clause).expression,
+                                    resultType.eType)));
+                    // $count$ = $count$ + 1;
+                    BLangBinaryExpr incrementExpr = ASTBuilderUtil.createBinaryExpr(clause.pos,
+                            ASTBuilderUtil.createVariableRef(clause.pos, countSymbol),
+                            ASTBuilderUtil.createLiteral(clause.pos, symTable.intType, 1L), symTable.intType,
+                            OperatorKind.ADD, (BOperatorSymbol) symResolver.resolveBinaryOperator(OperatorKind.ADD,
+                                    symTable.intType, symTable.intType));
+                    loopBlock.addStatement(ASTBuilderUtil.createAssignmentStmt(clause.pos,
+                            ASTBuilderUtil.createVariableRef(clause.pos, countSymbol), incrementExpr));
+                    break;
+            }
+        }
+
+        BLangStatementExpression stmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock,
+                ASTBuilderUtil.createVariableRef(pos, resultSymbol));
+        stmtExpr.setBType(resultType);
+        return stmtExpr;
+    }
+
+    private BVarSymbol addLoopStateVariable(BLangBlockStmt block, Location pos, BType type, BLangExpression initExpr,
+                                            BSymbol owner) {
+        String name = getNewVarName();
+        BVarSymbol symbol = new BVarSymbol(0, new Name(name), owner.pkgID, type, owner, pos, VIRTUAL);
+        BLangSimpleVariable variable = ASTBuilderUtil.createVariable(pos, name, type, initExpr, symbol);
+        block.addStatement(ASTBuilderUtil.createVariableDef(pos, variable));
+        return symbol;
+    }
+
+    private BLangBlockStmt createLoopBlock(Location pos, BSymbol owner) {
+        BLangBlockStmt block = ASTBuilderUtil.createBlockStmt(pos);
+        block.scope = new Scope(owner);
+        return block;
+    }
+
+    /**
+     * Moves a variable introduced by a query clause into the scope of the given block of the loop, so that queries
+     * nested within the later clauses resolve it as a variable of the enclosing function.
+     *
+     * @param block    block of the loop the variable is defined in.
+     * @param variable variable introduced by the clause.
+     * @param owner    owner of the variable.
+     */
+    private void defineLoopVariable(BLangBlockStmt block, BLangVariable variable, BSymbol owner) {
+        setSymbolOwner(variable, owner);
+        for (BVarSymbol symbol : getIntroducedSymbols(variable)) {
+            block.scope.define(symbol.name, symbol);
+        }
+    }
+
+    // ---- Util methods to look up table rows through secondary indexes. ---- //
+    /**
+     * Narrows down the rows iterated by a query over a table through a secondary index of the table, when the clause
+     * following the from clause is a where clause comparing a readonly field of the row with a value that cannot
+     * change while the query runs. The where clause is kept as is, so the result of the query stays the same.
+     * from var o in orders where o.customerId == id
+     * is desugared to
+     * from var o in getTableRowsWithFieldValue(orders, "customerId", id) where o.customerId == id
+     *
+     * @param clauses list of query clauses.
+     */
+    private void useTableFieldIndex(List<BLangNode> clauses) {
+        if (clauses.size() < 2 || clauses.get(1).getKind() != NodeKind.WHERE) {
+            return;
+        }
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        BRecordType rowType = getTableRowType(fromClause.collection.getBType());
+        BLangVariable variable = (BLangVariable) fromClause.variableDefinitionNode.getVariable();
+        if (rowType == null || variable.getKind() != NodeKind.VARIABLE || variable.symbol == null) {
+            return;
+        }
+
+        List<FieldComparison> comparisons = new ArrayList<>();
+        collectFieldComparisons(((BLangWhereClause) clauses.get(1)).expression, variable.symbol, rowType,
+                comparisons);
+        if (comparisons.isEmpty()) {
+            return;
+        }
+
+        Location pos = fromClause.collection.pos;
+        for (FieldComparison comparison : comparisons) {
+            if (comparison.opKind == OperatorKind.EQUAL) {
+                fromClause.collection = createQueryLibInvocation(QUERY_GET_TABLE_ROWS_WITH_FIELD_VALUE_FUNCTION,
+                        Lists.of(fromClause.collection, ASTBuilderUtil.createLiteral(pos, symTable.stringType,
+                                comparison.fieldName), comparison.value), pos);
+                return;
+            }
+        }
+
+        // A range is only looked up on the field of the first comparison, using the first lower bound and the first
+        // upper bound on that field. Bound values are only known at runtime, so the where clause applies the others.
+        String fieldName = comparisons.get(0).fieldName;
+        FieldComparison lowerBound = null;
+        FieldComparison upperBound = null;
+        for (FieldComparison comparison : comparisons) {
+            if (!comparison.fieldName.equals(fieldName)) {
+                continue;
+            }
+            if (comparison.opKind == OperatorKind.GREATER_THAN || comparison.opKind == OperatorKind.GREATER_EQUAL) {
+                lowerBound = lowerBound == null ? comparison : lowerBound;
+            } else if (upperBound == null) {
+                upperBound = comparison;
+            }
+        }
+        fromClause.collection = createQueryLibInvocation(QUERY_GET_TABLE_ROWS_IN_FIELD_RANGE_FUNCTION,
+                Lists.of(fromClause.collection, ASTBuilderUtil.createLiteral(pos, symTable.stringType, fieldName),
+                        getBoundValue(pos, lowerBound),
+                        ASTBuilderUtil.createLiteral(pos, symTable.booleanType,
+                                lowerBound != null && lowerBound.opKind == OperatorKind.GREATER_EQUAL),
+                        getBoundValue(pos, upperBound),
+                        ASTBuilderUtil.createLiteral(pos, symTable.booleanType,
+                                upperBound != null && upperBound.opKind == OperatorKind.LESS_EQUAL)), pos);
+    }
+
+    private BRecordType getTableRowType(BType collectionType) {
+        if (collectionType.tag == TypeTags.INTERSECTION) {
+            collectionType = ((BIntersectionType) collectionType).effectiveType;
+        }
+        if (collectionType.tag != TypeTags.TABLE) {
+            return null;
+        }
+        BType constraint = ((BTableType) collectionType).constraint;
+        if (constraint.tag == TypeTags.INTERSECTION) {
+            constraint = ((BIntersectionType) constraint).effectiveType;
+        }
+        return constraint.tag == TypeTags.RECORD ? (BRecordType) constraint : null;
+    }
+
+    private BLangExpression getBoundValue(Location pos, FieldComparison bound) {
+        return bound == null ? ASTBuilderUtil.createLiteral(pos, symTable.nilType, Names.NIL_VALUE) : bound.value;
+    }
+
+    private void collectFieldComparisons(BLangExpression expr, BSymbol varSymbol, BRecordType rowType,
+                                         List<FieldComparison> comparisons) {
+        if (expr.getKind() == NodeKind.GROUP_EXPR) {
+            collectFieldComparisons(((BLangGroupExpr) expr).expression, varSymbol, rowType, comparisons);
+            return;
+        }
+        if (expr.getKind() != NodeKind.BINARY_EXPR) {
+            return;
+        }
+        BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+        switch (binaryExpr.opKind) {
+            case AND:
+                collectFieldComparisons(binaryExpr.lhsExpr, varSymbol, rowType, comparisons);
+                collectFieldComparisons(binaryExpr.rhsExpr, varSymbol, rowType, comparisons);
+                return;
+            case EQUAL:
+            case LESS_THAN:
+            case LESS_EQUAL:
+            case GREATER_THAN:
+            case GREATER_EQUAL:
+                FieldComparison comparison = createFieldComparison(binaryExpr.lhsExpr, binaryExpr.rhsExpr,
+                        binaryExpr.opKind, varSymbol, rowType);
+                if (comparison == null) {
+                    comparison = createFieldComparison(binaryExpr.rhsExpr, binaryExpr.lhsExpr,
+                            getMirroredOperator(binaryExpr.opKind), varSymbol, rowType);
+                }
+                if (comparison != null) {
+                    comparisons.add(comparison);
+                }
+                return;
+            default:
+        }
+    }
+
+    private OperatorKind getMirroredOperator(OperatorKind opKind) {
+        switch (opKind) {
+            case LESS_THAN:
+                return OperatorKind.GREATER_THAN;
+            case LESS_EQUAL:
+                return OperatorKind.GREATER_EQUAL;
+            case GREATER_THAN:
+                return OperatorKind.LESS_THAN;
+            case GREATER_EQUAL:
+                return OperatorKind.LESS_EQUAL;
+            default:
+                return opKind;
+        }
+    }
+
+    private FieldComparison createFieldComparison(BLangExpression fieldExpr, BLangExpression valueExpr,
+                                                  OperatorKind opKind, BSymbol varSymbol, BRecordType rowType) {
+        if (fieldExpr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return null;
+        }
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) fieldExpr;
+        if (fieldAccess.optionalFieldAccess || fieldAccess.expr.getKind() != NodeKind.SIMPLE_VARIABLE_REF ||
+                ((BLangSimpleVarRef) fieldAccess.expr).symbol != varSymbol) {
+            return null;
+        }
+
+        // Only fields that cannot be updated once the row is in the table are indexed.
+        BField field = rowType.fields.get(fieldAccess.field.value);
+        if (field == null || !(Symbols.isFlagOn(field.symbol.flags, Flags.READONLY) ||
+                Symbols.isFlagOn(rowType.flags, Flags.READONLY))) {
+            return null;
+        }
+
+        int fieldTypeTag = field.type.tag;
+        boolean isIndexableType = opKind == OperatorKind.EQUAL ?
+                fieldTypeTag == TypeTags.INT || fieldTypeTag == TypeTags.STRING || fieldTypeTag == TypeTags.BOOLEAN :
+                fieldTypeTag == TypeTags.INT || fieldTypeTag == TypeTags.STRING || fieldTypeTag == TypeTags.FLOAT;
+        if (!isIndexableType) {
+            return null;
+        }
+
+        BLangExpression value = createInvariantValue(valueExpr, field.type, varSymbol);
+        return value == null ? null : new FieldComparison(field.name.value, opKind, value);
+    }
+
+    // Creates a copy of the value compared with the field, if it cannot change while the query runs.
+    private BLangExpression createInvariantValue(BLangExpression valueExpr, BType fieldType, BSymbol varSymbol) {
+        switch (valueExpr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+                if (valueExpr.getBType().tag != fieldType.tag) {
+                    return null;
+                }
+                return ASTBuilderUtil.createLiteral(valueExpr.pos, fieldType, ((BLangLiteral) valueExpr).value);
+            case CONSTANT_REF:
+                Object constValue = ((BLangConstRef) valueExpr).value;
+                if (!types.isAssignable(valueExpr.getBType(), fieldType) || constValue == null) {
+                    return null;
+                }
+                return ASTBuilderUtil.createLiteral(valueExpr.pos, fieldType, constValue);
+            case SIMPLE_VARIABLE_REF:
+                BSymbol symbol = ((BLangSimpleVarRef) valueExpr).symbol;
+                if (symbol == varSymbol || !(symbol instanceof BVarSymbol) ||
+                        valueExpr.getBType().tag != fieldType.tag ||
+                        !(Symbols.isFlagOn(symbol.flags, Flags.FINAL) ||
+                                Symbols.isFlagOn(symbol.flags, Flags.FUNCTION_FINAL) ||
+                                Symbols.isFlagOn(symbol.flags, Flags.CONSTANT))) {
+                    return null;
+                }
+                return ASTBuilderUtil.createVariableRef(valueExpr.pos, symbol);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Comparison of a field of the row with a value, in the form row.field op value.
+     */
+    private static class FieldComparison {
+        final String fieldName;
+        final OperatorKind opKind;
+        final BLangExpression value;
+
+        FieldComparison(String fieldName, OperatorKind opKind, BLangExpression value) {
+            this.fieldName = fieldName;
+            this.opKind = opKind;
+            this.value = value;
+        }
+    }
+
     // ---- Util methods to create the stream pipeline. ---- //
     /**
      * Desugar fromClause/joinClause to below and return a reference to created join _StreamPipeline.
@@ -598,12 +998,16 @@ public class QueryDesugar extends BLangNodeVisitor {
      * _StreamFunction orderByFunc = createOrderByFunction(function(_Frame frame) {
      * _Frame frame = {"orderKey": frame["x2"] + frame["y2"], $orderDirection$: true + false"};
      * });
+     * When the order by clause is directly followed by a limit clause, the limit _StreamFunction is passed along with
+     * createTopKOrderByFunction instead, so that only the frames within the limit are kept.
      *
      * @param blockStmt parent block to write to.
      * @param orderByClause  to be desugared.
+     * @param limitFunc reference to the limit _StreamFunction following the order by clause, or null.
      * @return variableReference to created orderBy _StreamFunction.
      */
-    BLangVariableReference addOrderByFunction(BLangBlockStmt blockStmt, BLangOrderByClause orderByClause) {
+    BLangVariableReference addOrderByFunction(BLangBlockStmt blockStmt, BLangOrderByClause orderByClause,
+                                              BLangVariableReference limitFunc) {
         Location pos = orderByClause.pos;
         BLangLambdaFunction lambda = createActionLambda(pos);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
@@ -635,6 +1039,12 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangStatement orderDirectionStmt = getAddToFrameStmt(pos, frame, "$orderDirection$", sortModesArrayExpr);
         body.stmts.add(orderDirectionStmt);
         lambda.accept(this);
+        if (limitFunc != null) {
+            BLangSimpleVarRef limitFuncRef = ASTBuilderUtil.createVariableRef(pos,
+                    (BVarSymbol) ((BLangSimpleVarRef) limitFunc).symbol);
+            return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_TOP_K_ORDER_BY_FUNCTION,
+                    Lists.of(lambda, limitFuncRef), pos);
+        }
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_FUNCTION, Lists.of(lambda), pos);
     }
 
@@ -70,3 +70,80 @@ public function getElementNameNilLifting(xml x) returns string|error? = @java:Me
     'class: "org.ballerinalang.langlib.internal.GetElementNameNilLifting",
     name: "getElementNameNilLifting"
 } external;
+
+# Returns a stream of the elements at a path in an xml document, which is parsed only as the stream is read.
+# Only the element being returned is kept in memory.
+#
+# + content - The document, as a stream of byte chunks in UTF-8
+# + elementPath - Names of the elements from the document element down to the elements to return, separated by `/`.
+#                 Names in a namespace are written in expanded form, as in `feed/{ns}entry`
+# + return - Stream of the matching elements, which completes with an error if the content is not a well-formed
+#            document or cannot be read
+public isolated function getElementStream(stream<byte[], error?> content, string elementPath)
+        returns stream<xml, error?> {
+    XmlElementStream elements = new (content, elementPath);
+    return new stream<xml, error?>(elements);
+}
+
+# The iterator of the stream returned by `getElementStream`.
+class XmlElementStream {
+
+    private stream<byte[], error?> content;
+
+    public isolated function init(stream<byte[], error?> content, string elementPath) {
+        self.content = content;
+        externInitElementStream(self, elementPath);
+    }
+
+    public isolated function next() returns record {| xml value; |}|error? {
+        while true {
+            xml|boolean|error? result = externNextElement(self);
+            if result is boolean {
+                // The parser has read all the content fed to it so far
+                record {| byte[] value; |}|error? chunk = self.content.next();
+                if chunk is error {
+                    externCloseElementStream(self);
+                    return chunk;
+                } else if chunk is () {
+                    externEndElementStreamInput(self);
+                } else {
+                    externFeedElementStream(self, chunk.value);
+                }
+            } else if result is xml {
+                return {value: result};
+            } else {
+                return result;
+            }
+        }
+    }
+
+    public isolated function close() returns error? {
+        externCloseElementStream(self);
+        return self.content.close();
+    }
+}
+
+isolated function externInitElementStream(XmlElementStream elementStream, string elementPath) = @java:Method {
+    'class: "org.ballerinalang.langlib.internal.ElementStream",
+    name: "init"
+} external;
+
+isolated function externNextElement(XmlElementStream elementStream) returns xml|boolean|error? = @java:Method {
+    'class: "org.ballerinalang.langlib.internal.ElementStream",
+    name: "next"
+} external;
+
+isolated function externFeedElementStream(XmlElementStream elementStream, byte[] chunk) = @java:Method {
+    'class: "org.ballerinalang.langlib.internal.ElementStream",
+    name: "feed"
+} external;
+
+isolated function externEndElementStreamInput(XmlElementStream elementStream) = @java:Method {
+    'class: "org.ballerinalang.langlib.internal.ElementStream",
+    name: "endInput"
+} external;
+
+isolated function externCloseElementStream(XmlElementStream elementStream) = @java:Method {
+    'class: "org.ballerinalang.langlib.internal.ElementStream",
+    name: "close"
+} external;
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.internal;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Cleaner;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Native implementation of lang.internal.XmlElementStream, the iterator of the stream returned by
+ * lang.internal:getElementStream(content, elementPath).
+ * <p>
+ * The XML parser reads from an input stream, while the content arrives as a Ballerina stream of byte chunks, so the
+ * document is parsed on a thread of its own. {@code next} does not block the strand's thread: it marks the strand
+ * async and the parser completes the future with the next element, or with true once it has read all the chunks fed
+ * to it so far.
+ *
+ * @since 2.0.0
+ */
+public class ElementStream {
+
+    private static final String PARSER = "&parser&";
+    private static final Object NO_RESULT = new Object();
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final ExecutorService PARSER_THREADS = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "xml-element-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public static void init(BObject elementStream, BString elementPath) {
+        Parser parser = new Parser(elementPath.getValue());
+        elementStream.addNativeData(PARSER, parser);
+        // Stops the parser if the stream is dropped without being closed
+        CLEANER.register(elementStream, parser::stop);
+        PARSER_THREADS.execute(parser);
+    }
+
+    /**
+     * Completes with the next element, an error if the document is invalid, nil at the end of the document, or true
+     * if the parser needs the next chunk of the content.
+     *
+     * @param env           the environment of the calling strand
+     * @param elementStream the XmlElementStream object
+     * @return null, since the result is returned through the future of the strand
+     */
+    public static Object next(Environment env, BObject elementStream) {
+        Future future = env.markAsync();
+        getParser(elementStream).next(future);
+        return null;
+    }
+
+    public static void feed(BObject elementStream, BArray chunk) {
+        getParser(elementStream).feed(chunk.getBytes());
+    }
+
+    public static void endInput(BObject elementStream) {
+        getParser(elementStream).endInput();
+    }
+
+    public static void close(BObject elementStream) {
+        getParser(elementStream).stop();
+    }
+
+    private static Parser getParser(BObject elementStream) {
+        return (Parser) elementStream.getNativeData(PARSER);
+    }
+
+    private static final class Parser extends InputStream implements Runnable {
+
+        private final String elementPath;
+        private final Deque<byte[]> chunks = new ArrayDeque<>();
+        private byte[] chunk = new byte[0];
+        private int position;
+        private boolean inputEnded;
+        private boolean awaitingInput;
+        private Object result;
+        private boolean hasResult;
+        private boolean finished;
+        private boolean closed;
+        // Future of the strand waiting for the next result, if any
+        private Future pending;
+
+        private Parser(String elementPath) {
+            this.elementPath = elementPath;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Iterator<BXml> elements = XmlUtils.parseElements(this, StandardCharsets.UTF_8, elementPath);
+                while (elements.hasNext()) {
+                    if (!offer(elements.next())) {
+                        return;
+                    }
+                }
+            } catch (BError e) {
+                offer(e);
+            } finally {
+                synchronized (this) {
+                    finished = true;
+                }
+                completePending();
+            }
+        }
+
+        private boolean offer(Object value) {
+            synchronized (this) {
+                try {
+                    while (hasResult && !closed) {
+                        wait();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                if (closed) {
+                    return false;
+                }
+                result = value;
+                hasResult = true;
+            }
+            completePending();
+            return true;
+        }
+
+        private void next(Future future) {
+            Object nextResult;
+            synchronized (this) {
+                nextResult = takeResult();
+                if (nextResult == NO_RESULT) {
+                    pending = future;
+                    return;
+                }
+            }
+            future.complete(nextResult);
+        }
+
+        // Futures are completed outside the lock, since completing one reschedules the strand
+        private void completePending() {
+            Future future;
+            Object nextResult;
+            synchronized (this) {
+                if (pending == null) {
+                    return;
+                }
+                nextResult = takeResult();
+                if (nextResult == NO_RESULT) {
+                    return;
+                }
+                future = pending;
+                pending = null;
+            }
+            future.complete(nextResult);
+        }
+
+        private Object takeResult() {
+            if (hasResult) {
+                Object value = result;
+                result = null;
+                hasResult = false;
+                notifyAll();
+                return value;
+            }
+            if (finished || closed) {
+                return null;
+            }
+            if (awaitingInput && chunks.isEmpty() && !inputEnded) {
+                return true;
+            }
+            return NO_RESULT;
+        }
+
+        private synchronized void feed(byte[] bytes) {
+            if (!closed) {
+                chunks.add(bytes);
+                notifyAll();
+            }
+        }
+
+        private synchronized void endInput() {
+            inputEnded = true;
+            notifyAll();
+        }
+
+        private void stop() {
+            synchronized (this) {
+                closed = true;
+                chunks.clear();
+                result = null;
+                hasResult = false;
+                notifyAll();
+            }
+            completePending();
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (true) {
+                synchronized (this) {
+                    if (closed) {
+                        throw new IOException("stream closed");
+                    }
+                    if (position < chunk.length) {
+                        int n = Math.min(len, chunk.length - position);
+                        System.arraycopy(chunk, position, b, off, n);
+                        position += n;
+                        return n;
+                    }
+                    if (!chunks.isEmpty()) {
+                        chunk = chunks.poll();
+                        position = 0;
+                        continue;
+                    }
+                    if (inputEnded) {
+                        return -1;
+                    }
+                    awaitingInput = true;
+                }
+                // All the chunks fed so far are read, so the strand waiting for a result is asked for the next one
+                completePending();
+                synchronized (this) {
+                    try {
+                        while (chunks.isEmpty() && !inputEnded && !closed) {
+                            wait();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException("interrupted while waiting for xml content");
+                    } finally {
+                        awaitingInput = false;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public synchronized int available() {
+            return chunk.length - position;
+        }
+    }
+}
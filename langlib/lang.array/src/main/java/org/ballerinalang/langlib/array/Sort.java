@@ -18,15 +18,19 @@
 
 package org.ballerinalang.langlib.array;
 
+import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.ValueComparisonUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 
+import java.util.Arrays;
+
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INVALID_TYPE_TO_SORT;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.getModulePrefixedReason;
@@ -39,24 +43,44 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyO
  */
 public class Sort {
 
+    private static final String ASCENDING = "ascending";
+
     public static BArray sort(BArray arr, Object direction, Object func) {
         checkIsArrayOnlyOperation(arr.getType(), "sort()");
         BFunctionPointer<Object, Object> function = (BFunctionPointer<Object, Object>) func;
+        boolean ascending = direction.toString().equals(ASCENDING);
 
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
-        if (function != null) {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
-                sortArr[i][1] = arr.get(i);
+        if (function == null) {
+            if (sortPrimitiveArray(arr, ascending)) {
+                return arr;
             }
         } else {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = sortArr[i][1] = arr.get(i);
+            Object[] keys = new Object[arr.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
+            }
+            if (sortByPrimitiveKeys(arr, keys, ascending)) {
+                return arr;
             }
+            return sortWithKeys(arr, keys, direction.toString());
+        }
+
+        Object[] values = new Object[arr.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = arr.get(i);
+        }
+        return sortWithKeys(arr, values, direction.toString());
+    }
+
+    private static BArray sortWithKeys(BArray arr, Object[] keys, String direction) {
+        Object[][] sortArr = new Object[keys.length][2];
+        Object[][] sortArrClone = new Object[keys.length][2];
+        for (int i = 0; i < keys.length; i++) {
+            sortArr[i][0] = keys[i];
+            sortArr[i][1] = arr.get(i);
         }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, direction.toString());
+        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, direction);
 
         for (int k = 0; k < sortArr.length; k++) {
             arr.add(k, sortArr[k][1]);
@@ -65,6 +89,260 @@ public class Sort {
         return arr;
     }
 
+    /**
+     * Sorts arrays with a primitive element type on a copy of their primitive values, without boxing.
+     *
+     * @return false if the element type has no specialized sort
+     */
+    private static boolean sortPrimitiveArray(BArray arr, boolean ascending) {
+        int size = arr.size();
+        switch (arr.getElementType().getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+                long[] intValues = arr.getIntArray();
+                Arrays.sort(intValues);
+                for (int i = 0; i < size; i++) {
+                    arr.add(i, intValues[ascending ? i : size - 1 - i]);
+                }
+                return true;
+            case TypeTags.FLOAT_TAG:
+                double[] floatValues = sortFloatValues(arr.getFloatArray(), ascending);
+                for (int i = 0; i < size; i++) {
+                    arr.add(i, floatValues[i]);
+                }
+                return true;
+            case TypeTags.BYTE_TAG:
+                // counting sort on the unsigned values
+                int[] byteCounts = new int[256];
+                for (byte value : arr.getByteArray()) {
+                    byteCounts[Byte.toUnsignedInt(value)]++;
+                }
+                int index = 0;
+                for (int i = 0; i < byteCounts.length; i++) {
+                    int value = ascending ? i : byteCounts.length - 1 - i;
+                    for (int count = byteCounts[value]; count > 0; count--) {
+                        arr.add(index++, (byte) value);
+                    }
+                }
+                return true;
+            case TypeTags.BOOLEAN_TAG:
+                int falseCount = 0;
+                for (boolean value : arr.getBooleanArray()) {
+                    if (!value) {
+                        falseCount++;
+                    }
+                }
+                for (int i = 0; i < size; i++) {
+                    arr.add(i, ascending == i >= falseCount);
+                }
+                return true;
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                BString[] stringValues = new BString[size];
+                for (int i = 0; i < size; i++) {
+                    stringValues[i] = arr.getBString(i);
+                }
+                // Arrays.sort on objects is stable, so equal values keep their order in both directions
+                Arrays.sort(stringValues, ascending ? Sort::compareStrings : (s1, s2) -> compareStrings(s2, s1));
+                for (int i = 0; i < size; i++) {
+                    arr.add(i, stringValues[i]);
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Sorts float values placing NaN last in both directions. -0.0 and 0.0 are equal in Ballerina, so they keep
+     * their original relative order, as in a stable sort.
+     */
+    private static double[] sortFloatValues(double[] values, boolean ascending) {
+        int numbers = 0;
+        int zeros = 0;
+        double[] nans = new double[values.length];
+        int nanCount = 0;
+        for (double value : values) {
+            if (Double.isNaN(value)) {
+                nans[nanCount++] = value;
+            } else {
+                if (value == 0) {
+                    zeros++;
+                }
+                values[numbers++] = value;
+            }
+        }
+        double[] orderedZeros = new double[zeros];
+        for (int i = 0, j = 0; i < numbers && j < zeros; i++) {
+            if (values[i] == 0) {
+                orderedZeros[j++] = values[i];
+            }
+        }
+
+        Arrays.sort(values, 0, numbers);
+        if (!ascending) {
+            for (int i = 0, j = numbers - 1; i < j; i++, j--) {
+                double temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+            }
+        }
+        for (int i = 0, j = 0; i < numbers && j < zeros; i++) {
+            if (values[i] == 0) {
+                values[i] = orderedZeros[j++];
+            }
+        }
+        System.arraycopy(nans, 0, values, numbers, nanCount);
+        return values;
+    }
+
+    /**
+     * Sorts the array by keys if all of them are ints, floats or strings, optionally mixed with nil. The keys are
+     * kept in a primitive array and the array is sorted through a stable merge sort of the indices.
+     *
+     * @return false if the keys are not of a single primitive type
+     */
+    private static boolean sortByPrimitiveKeys(BArray arr, Object[] keys, boolean ascending) {
+        int size = keys.length;
+        boolean[] nilKeys = new boolean[size];
+        IndexComparator comparator;
+        Object firstKey = null;
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == null) {
+                nilKeys[i] = true;
+            } else if (firstKey == null) {
+                firstKey = keys[i];
+            } else if (!isSamePrimitiveKind(firstKey, keys[i])) {
+                return false;
+            }
+        }
+
+        if (firstKey == null) {
+            // all the keys are nil, so the stable sort keeps the array as it is
+            return true;
+        } else if (firstKey instanceof Long) {
+            long[] intKeys = new long[size];
+            for (int i = 0; i < size; i++) {
+                intKeys[i] = nilKeys[i] ? 0 : (long) keys[i];
+            }
+            comparator = (i, j) -> Long.compare(intKeys[i], intKeys[j]);
+        } else if (firstKey instanceof Double) {
+            double[] floatKeys = new double[size];
+            for (int i = 0; i < size; i++) {
+                floatKeys[i] = nilKeys[i] ? 0 : (double) keys[i];
+            }
+            comparator = (i, j) -> compareFloats(floatKeys[i], floatKeys[j], ascending);
+        } else if (firstKey instanceof BString) {
+            BString[] stringKeys = new BString[size];
+            for (int i = 0; i < size; i++) {
+                stringKeys[i] = (BString) keys[i];
+            }
+            comparator = (i, j) -> compareStrings(stringKeys[i], stringKeys[j]);
+        } else {
+            return false;
+        }
+
+        // nil is placed last in both directions
+        IndexComparator directedComparator = (i, j) -> {
+            if (nilKeys[i] || nilKeys[j]) {
+                return Boolean.compare(nilKeys[i], nilKeys[j]);
+            }
+            return ascending ? comparator.compare(i, j) : comparator.compare(j, i);
+        };
+
+        int[] indices = new int[size];
+        for (int i = 0; i < size; i++) {
+            indices[i] = i;
+        }
+        mergesort(indices, new int[size], 0, size - 1, directedComparator);
+
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = arr.get(indices[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            arr.add(i, values[i]);
+        }
+        return true;
+    }
+
+    private static boolean isSamePrimitiveKind(Object first, Object value) {
+        return first instanceof BString ? value instanceof BString : value.getClass() == first.getClass();
+    }
+
+    private static void mergesort(int[] indices, int[] aux, int lo, int hi, IndexComparator comparator) {
+        if (hi <= lo) {
+            return;
+        }
+
+        int mid = lo + (hi - lo) / 2;
+        mergesort(indices, aux, lo, mid, comparator);
+        mergesort(indices, aux, mid + 1, hi, comparator);
+
+        System.arraycopy(indices, lo, aux, lo, hi + 1 - lo);
+        for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
+            if (i > mid) {
+                indices[k] = aux[j++];
+            } else if (j > hi || comparator.compare(aux[j], aux[i]) >= 0) {
+                indices[k] = aux[i++];
+            } else {
+                indices[k] = aux[j++];
+            }
+        }
+    }
+
+    /**
+     * Compares float keys with NaN ordered after all the other values, so that it is last in the given direction.
+     */
+    private static int compareFloats(double lhs, double rhs, boolean ascending) {
+        boolean lhsNaN = Double.isNaN(lhs);
+        boolean rhsNaN = Double.isNaN(rhs);
+        if (lhsNaN || rhsNaN) {
+            int nanOrder = Boolean.compare(lhsNaN, rhsNaN);
+            return ascending ? nanOrder : -nanOrder;
+        }
+        // -0.0 = +0.0
+        if (lhs == 0 && rhs == 0) {
+            return 0;
+        }
+        return Double.compare(lhs, rhs);
+    }
+
+    /**
+     * Compares strings by code points. UTF-16 code unit order only differs from it when a surrogate is compared
+     * with a character in the range U+E000 to U+FFFF.
+     */
+    private static int compareStrings(BString lhs, BString rhs) {
+        String lhsValue = lhs.getValue();
+        String rhsValue = rhs.getValue();
+        int length = Math.min(lhsValue.length(), rhsValue.length());
+        for (int i = 0; i < length; i++) {
+            char lhsChar = lhsValue.charAt(i);
+            char rhsChar = rhsValue.charAt(i);
+            if (lhsChar != rhsChar) {
+                if (lhsChar >= Character.MIN_SURROGATE && rhsChar >= Character.MIN_SURROGATE) {
+                    return Integer.compare(toCodePointOrder(lhsChar), toCodePointOrder(rhsChar));
+                }
+                return Character.compare(lhsChar, rhsChar);
+            }
+        }
+        return Integer.compare(lhsValue.length(), rhsValue.length());
+    }
+
+    private static int toCodePointOrder(char c) {
+        // moves surrogates above the rest of the basic multilingual plane
+        return Character.isSurrogate(c) ? c + 0x2000 : c - 0x800;
+    }
+
+    private interface IndexComparator {
+        int compare(int i, int j);
+    }
+
     // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
     private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, String direction) {
         if (hi <= lo) {
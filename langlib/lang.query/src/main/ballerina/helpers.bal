@@ -63,6 +63,11 @@ function createOrderByFunction(function(_Frame _frame) orderFunc)
     return new _OrderByFunction(orderFunc);
 }
 
+function createTopKOrderByFunction(function(_Frame _frame) orderFunc, _StreamFunction limitFunction)
+        returns _StreamFunction {
+    return new _OrderByFunction(orderFunc, <_LimitFunction> limitFunction);
+}
+
 function createSelectFunction(function(_Frame _frame) returns _Frame|error? selectFunc)
         returns _StreamFunction {
     return new _SelectFunction(selectFunc);
@@ -156,3 +161,45 @@ function consumeStream(stream<Type, CompletionType> strm) returns error? {
         return v;
     }
 }
+
+function getTableRowsWithFieldValue(table<map<Type>> tbl, string fieldName, anydata value)
+        returns map<Type>[] = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GetTableRowsWithFieldValue",
+    name: "getTableRowsWithFieldValue"
+} external;
+
+function getTableRowsInFieldRange(table<map<Type>> tbl, string fieldName, anydata lowerBound,
+        boolean lowerInclusive, anydata upperBound, boolean upperInclusive) returns map<Type>[] = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GetTableRowsInFieldRange",
+    name: "getTableRowsInFieldRange"
+} external;
+
+function createJoinKeyIndex() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinKeyIndex",
+    name: "createJoinKeyIndex"
+} external;
+
+function addJoinKey(handle index, any key, int newBucket) returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinKeyIndex",
+    name: "addJoinKey"
+} external;
+
+function getJoinKeyBucket(handle index, any key) returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinKeyIndex",
+    name: "getJoinKeyBucket"
+} external;
+
+function createOrderedFrames(int maxFrames) returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.OrderedFrames",
+    name: "createOrderedFrames"
+} external;
+
+function addOrderedFrame(handle orderedFrames, _Frame frame) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.OrderedFrames",
+    name: "addOrderedFrame"
+} external;
+
+function getOrderedFrames(handle orderedFrames, _Frame[] target) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.OrderedFrames",
+    name: "getOrderedFrames"
+} external;
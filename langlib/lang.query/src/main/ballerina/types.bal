@@ -326,6 +326,7 @@ class _InnerJoinFunction {
     function (_Frame _frame) returns any rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex;
     _Frame|error? lhsFrame;
 
     function init(
@@ -335,11 +336,12 @@ class _InnerJoinFunction {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         self.prevFunc = ();
         self.lhsFrame = ();
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
+            self.rhsFramesMap.put(rhsKeyFunction(f), f);
             f = pipelineToJoin.next();
         }
     }
@@ -354,7 +356,6 @@ class _InnerJoinFunction {
          _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
         _Frame[]? rhsCandidates = self.rhsCandidates;
         _Frame|error? lhsFrame = self.lhsFrame;
-        string lhsKey = "";
 
         if (lhsFrame is ()) {
             lhsFrame = pf.process();
@@ -362,14 +363,15 @@ class _InnerJoinFunction {
         }
 
         if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
             if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
+                rhsCandidates = rhsFramesMap.get(lhsKF(lhsFrame));
                 self.rhsCandidates = rhsCandidates;
+                self.rhsCandidateIndex = 0;
             }
-            if (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                self.rhsCandidates = rhsCandidates;
+            int candidateIndex = self.rhsCandidateIndex;
+            if (rhsCandidates is _Frame[] && candidateIndex < rhsCandidates.length()) {
+                _Frame rhsFrame = rhsCandidates[candidateIndex];
+                self.rhsCandidateIndex = candidateIndex + 1;
                 _Frame joinedFrame = {...lhsFrame};
                 foreach var [k, val] in rhsFrame.entries() {
                     joinedFrame[k] = val;
@@ -402,6 +404,7 @@ class _OuterJoinFunction {
     function (_Frame _frame) returns any rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex;
     _Frame|error? lhsFrame;
     _Frame nilFrame;
 
@@ -412,12 +415,13 @@ class _OuterJoinFunction {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         self.prevFunc = ();
         self.lhsFrame = ();
         self.nilFrame = nilFrame;
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
+            self.rhsFramesMap.put(rhsKeyFunction(f), f);
             f = pipelineToJoin.next();
         }
     }
@@ -433,7 +437,6 @@ class _OuterJoinFunction {
         _Frame[]? rhsCandidates = self.rhsCandidates;
         _Frame|error? lhsFrame = self.lhsFrame;
         _Frame nilFrame = self.nilFrame;
-        string lhsKey = "";
 
         if (lhsFrame is ()) {
             lhsFrame = pf.process();
@@ -441,16 +444,17 @@ class _OuterJoinFunction {
         }
 
         if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
             if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
+                rhsCandidates = rhsFramesMap.get(lhsKF(lhsFrame));
                 self.rhsCandidates = rhsCandidates;
+                self.rhsCandidateIndex = 0;
             }
 
             if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
-                    self.rhsCandidates = rhsCandidates;
+                int candidateIndex = self.rhsCandidateIndex;
+                _Frame rhsFrame = rhsCandidates[candidateIndex];
+                if (candidateIndex + 1 < rhsCandidates.length()) {
+                    self.rhsCandidateIndex = candidateIndex + 1;
                 } else {
                     // Move to next lhs frame in next iteration.
                     self.rhsCandidates = ();
@@ -522,43 +526,60 @@ class _OrderByFunction {
     # Desugared function to do;
     # order by person.fname true, person.age false
     function(_Frame _frame) orderKeyFunc;
-    stream<_Frame>? orderedStream;
+    # Limit clause directly following the order by clause, if any. Only the frames within the limit are kept.
+    _LimitFunction? limitFunction;
+    _Frame[]? orderedFrames;
+    int nextFrameIndex;
 
-    function init(function(_Frame _frame) orderKeyFunc) {
+    function init(function(_Frame _frame) orderKeyFunc, _LimitFunction? limitFunction = ()) {
         self.orderKeyFunc = orderKeyFunc;
-        self.orderedStream = ();
+        self.limitFunction = limitFunction;
+        self.orderedFrames = ();
+        self.nextFrameIndex = 0;
         self.prevFunc = ();
     }
 
     public function process() returns _Frame|error? {
-        if (self.orderedStream is ()) {
+        _Frame[]? orderedFrames = self.orderedFrames;
+        if (orderedFrames is ()) {
             _StreamFunction pf = <_StreamFunction> self.prevFunc;
             function(_Frame _frame) orderKeyFunc = self.orderKeyFunc;
             _Frame|error? f = pf.process();
-            boolean[] directions = [];
-            _OrderTreeNode oTree = new;
+            int maxFrames = 0;
+            _LimitFunction? lf = self.limitFunction;
+            if (f is _Frame && lf is _LimitFunction) {
+                // An invalid limit is reported by the limit clause itself.
+                function (_Frame _frame) returns int limitFunc = lf.limitFunc;
+                maxFrames = limitFunc(f);
+            }
+            handle frameSet = createOrderedFrames(maxFrames);
             // consume all events for ordering.
             while (f is _Frame) {
                 orderKeyFunc(f);
-                oTree.add(f, <any[]>(checkpanic f["$orderDirection$"]), <any[]>(checkpanic f["$orderKey$"]));
+                addOrderedFrame(frameSet, f);
                 f = pf.process();
             }
             if (f is error) {
                 return f;
             }
-            self.orderedStream = oTree.get().toStream();
+            _Frame[] frames = [];
+            getOrderedFrames(frameSet, frames);
+            orderedFrames = frames;
+            self.orderedFrames = frames;
+            self.nextFrameIndex = 0;
         }
 
-        stream<_Frame> s = <stream<_Frame>>self.orderedStream;
-        record {|_Frame value;|}|error? f = s.next();
-        if (f is record {|_Frame value;|}) {
-            return f.value;
+        _Frame[] frames = <_Frame[]> orderedFrames;
+        int i = self.nextFrameIndex;
+        if (i < frames.length()) {
+            self.nextFrameIndex = i + 1;
+            return frames[i];
         }
-        return f;
+        return ();
     }
 
     public function reset() {
-        self.orderedStream = ();
+        self.orderedFrames = ();
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -678,32 +699,32 @@ class _LimitFunction {
 // ---- helper types ----
 
 class _FrameMultiMap {
-    map<_Frame[]> m;
+    handle keyIndex;
+    _Frame[][] buckets;
 
     function init() {
-        self.m = {};
+        self.keyIndex = createJoinKeyIndex();
+        self.buckets = [];
     }
 
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            vals.push(v);
+    function put(any k, _Frame v) {
+        int newBucket = self.buckets.length();
+        int bucket = addJoinKey(self.keyIndex, k, newBucket);
+        if (bucket == newBucket) {
+            self.buckets.push([v]);
         } else {
-            self.m[k] = [v];
+            self.buckets[bucket].push(v);
         }
     }
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
-            }
-            return frames;
+    # Returns the frames added with a key equal to the given key. The returned array is shared with the map and
+    # must not be modified.
+    # + k - key to look up
+    # + return - frames added with an equal key or nil if there are none
+    function get(any k) returns _Frame[]? {
+        int bucket = getJoinKeyBucket(self.keyIndex, k);
+        if (bucket >= 0) {
+            return self.buckets[bucket];
         }
     }
 
@@ -729,107 +750,3 @@ class IterHelper {
         }
     }
 }
-
-class _OrderTreeNode {
-    any? key = ();
-    _Frame[]? frames = ();
-    lang_array:SortDirection nodesDirection = lang_array:ASCENDING;
-    map<_OrderTreeNode> nodes = {};
-    any[] keys = [];
-
-    # adds a _Frame into the _OrderTreeNode tree structure.
-    function add(_Frame f, any[] directions, any[] keys) {
-        if (keys.length() == 0 && directions.length() == 0) {
-            _Frame[]? currentFrames = self.frames;
-            if (currentFrames is _Frame[]) {
-                currentFrames.push(f);
-            } else {
-                self.frames = [f];
-            }
-
-        } else {
-            if(!<boolean>directions.shift()) {
-                self.nodesDirection = lang_array:DESCENDING;
-            }
-            any key = keys.shift();
-            string keyStr = key.toString();
-            _OrderTreeNode o;
-            if (self.nodes.hasKey(keyStr)) {
-                o = self.nodes.get(keyStr);
-            } else {
-                o = new;
-                o.key = key;
-                self.nodes[keyStr] = o;
-                self.keys.push(key);
-            }
-            o.add(f, directions, keys);
-        }
-    }
-
-    # do a pre-order tree traversal and return collected leaf frames as orderedFrames.
-    # + return -  ordered frames.
-    function get() returns _Frame[] {
-        _Frame[] orderedFrames = [];
-        if (self.frames is _Frame[]) {
-            _Frame[] frames = <_Frame[]>self.frames;
-            int l = frames.length();
-            int i = 0;
-            while (i < l) {
-                orderedFrames.push(frames[i]);
-                i += 1;
-            }
-        } else {
-            any[] keys = self.getSortedArray(self.keys);
-            foreach any k in keys {
-                _OrderTreeNode o = self.nodes.get(k.toString());
-                _Frame[] frms = o.get();
-                foreach _Frame f in frms {
-                    orderedFrames.push(f);
-                }
-            }
-        }
-        return orderedFrames;
-    }
-
-    # sorting is not supported for any[], therefore have to resolve runtime type and sort it.
-    # + return -  ordered array.
-    function getSortedArray(any[] arr) returns any[] {
-        if (arr.length() > 0) {
-            int i = 0;
-            while (i < arr.length()) {
-                if (arr[i] is ()) {
-                    i += 1;
-                    continue;
-                } else if (arr[i] is boolean) {
-                    boolean?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is int) {
-                    int?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is float) {
-                    float?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is decimal) {
-                    decimal?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is string) {
-                    string?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                }
-            }
-        }
-        return arr;
-    }
-
-    # copy every element of source array into empty target array.
-    function copyArray(any[] 'source, any[] 'target) {
-        foreach var v in 'source {
-            'target.push(v);
-        }
-    }
-}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BHandle;
+import io.ballerina.runtime.internal.TableUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hash index of the join keys of the frames on the right-hand side of a join clause.
+ * <p>
+ * Keys are hashed by their shape and compared with the Ballerina equality, so that frames are looked up without
+ * converting the key values to strings. Each distinct key maps to the position of its bucket of frames, which is
+ * held by the {@code _FrameMultiMap} in lang.query.
+ *
+ * @since 2.0.0
+ */
+public class JoinKeyIndex {
+
+    private static final long NO_BUCKET = -1;
+
+    private final Map<JoinKey, Long> buckets = new HashMap<>();
+
+    public static BHandle createJoinKeyIndex() {
+        return ValueCreator.createHandleValue(new JoinKeyIndex());
+    }
+
+    /**
+     * Returns the bucket of the given key, assigning it the given new bucket if the key has not been added yet.
+     *
+     * @param index     handle to the join key index
+     * @param key       join key
+     * @param newBucket bucket to assign if the key is not present
+     * @return the bucket of the key
+     */
+    public static long addJoinKey(BHandle index, Object key, long newBucket) {
+        return ((JoinKeyIndex) index.getValue()).buckets.computeIfAbsent(new JoinKey(key), k -> newBucket);
+    }
+
+    /**
+     * Returns the bucket of the given key, or -1 if no frame has been added with an equal key.
+     *
+     * @param index handle to the join key index
+     * @param key   join key
+     * @return the bucket of the key
+     */
+    public static long getJoinKeyBucket(BHandle index, Object key) {
+        return ((JoinKeyIndex) index.getValue()).buckets.getOrDefault(new JoinKey(key), NO_BUCKET);
+    }
+
+    private static class JoinKey {
+
+        private final Object value;
+        private final int hash;
+
+        JoinKey(Object value) {
+            this.value = value;
+            this.hash = Long.hashCode(TableUtils.hash(value, null));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof JoinKey)) {
+                return false;
+            }
+            JoinKey other = (JoinKey) obj;
+            return hash == other.hash && TypeChecker.isEqual(value, other.value);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BHandle;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Collects the frames of an order by clause and returns them in the order given by their order keys.
+ * <p>
+ * The order keys and directions of each frame are evaluated into the {@code $orderKey$} and
+ * {@code $orderDirection$} fields of the frame by the desugared order by function. The keys are copied out once per
+ * frame and the frames are sorted with a stable sort over them. When the order by clause is directly followed by a
+ * limit clause, only the first {@code limit} frames are kept, in a bounded heap, so that the memory and the time
+ * taken to order the frames do not grow with the number of frames that are dropped.
+ *
+ * @since 2.0.0
+ */
+public class OrderedFrames {
+
+    private static final BString ORDER_KEY = StringUtils.fromString("$orderKey$");
+    private static final BString ORDER_DIRECTION = StringUtils.fromString("$orderDirection$");
+    private static final String ASCENDING = "ascending";
+    private static final String DESCENDING = "descending";
+
+    private final int limit;
+    private final List<OrderedFrame> frames = new ArrayList<>();
+    private PriorityQueue<OrderedFrame> boundedFrames;
+    private Comparator<OrderedFrame> comparator;
+    private long sequence;
+
+    private OrderedFrames(int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a collection of frames to be ordered.
+     *
+     * @param limit maximum number of frames to return, or a value less than 1 to return all the frames
+     * @return handle to the created collection
+     */
+    public static BHandle createOrderedFrames(long limit) {
+        return ValueCreator.createHandleValue(new OrderedFrames(limit < 1 ? 0 : (int) Math.min(limit,
+                Integer.MAX_VALUE)));
+    }
+
+    public static void addOrderedFrame(BHandle orderedFrames, BMap<BString, Object> frame) {
+        ((OrderedFrames) orderedFrames.getValue()).add(frame);
+    }
+
+    /**
+     * Appends the collected frames to the given array in order.
+     *
+     * @param orderedFrames handle to the collection of frames
+     * @param target        array to append the frames to
+     */
+    public static void getOrderedFrames(BHandle orderedFrames, BArray target) {
+        for (OrderedFrame orderedFrame : ((OrderedFrames) orderedFrames.getValue()).getSorted()) {
+            target.append(orderedFrame.frame);
+        }
+    }
+
+    private void add(BMap<BString, Object> frame) {
+        BArray keyArray = (BArray) frame.get(ORDER_KEY);
+        Object[] keys = new Object[keyArray.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keyArray.get(i);
+        }
+        if (comparator == null) {
+            comparator = createComparator((BArray) frame.get(ORDER_DIRECTION));
+        }
+        OrderedFrame orderedFrame = new OrderedFrame(frame, keys, sequence++);
+
+        if (limit == 0) {
+            frames.add(orderedFrame);
+            return;
+        }
+        if (boundedFrames == null) {
+            // The head of the queue is the frame that would be dropped first.
+            boundedFrames = new PriorityQueue<>(Math.min(limit, 1024), comparator.reversed());
+        }
+        if (boundedFrames.size() < limit) {
+            boundedFrames.add(orderedFrame);
+        } else if (comparator.compare(orderedFrame, boundedFrames.peek()) < 0) {
+            boundedFrames.poll();
+            boundedFrames.add(orderedFrame);
+        }
+    }
+
+    private List<OrderedFrame> getSorted() {
+        if (boundedFrames == null) {
+            if (comparator != null) {
+                frames.sort(comparator);
+            }
+            return frames;
+        }
+        OrderedFrame[] sorted = new OrderedFrame[boundedFrames.size()];
+        for (int i = sorted.length - 1; i >= 0; i--) {
+            sorted[i] = boundedFrames.poll();
+        }
+        return List.of(sorted);
+    }
+
+    private static Comparator<OrderedFrame> createComparator(BArray directionArray) {
+        int keyCount = directionArray.size();
+        boolean[] ascending = new boolean[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            ascending[i] = (Boolean) directionArray.get(i);
+        }
+        return (lhs, rhs) -> {
+            for (int i = 0; i < keyCount; i++) {
+                // () and NaN are ordered last in both directions, which compareValues handles through the direction.
+                int result = ascending[i] ?
+                        ValueComparisonUtils.compareValues(lhs.keys[i], rhs.keys[i], ASCENDING) :
+                        ValueComparisonUtils.compareValues(rhs.keys[i], lhs.keys[i], DESCENDING);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            // Frames with equal keys keep the order in which they were added.
+            return Long.compare(lhs.sequence, rhs.sequence);
+        };
+    }
+
+    private static class OrderedFrame {
+
+        private final BMap<BString, Object> frame;
+        private final Object[] keys;
+        private final long sequence;
+
+        OrderedFrame(BMap<BString, Object> frame, Object[] keys, long sequence) {
+            this.frame = frame;
+            this.keys = keys;
+            this.sequence = sequence;
+        }
+    }
+}
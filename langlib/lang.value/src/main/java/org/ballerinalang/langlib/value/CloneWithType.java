@@ -23,7 +23,6 @@ import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.ArrayType;
-import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.MapType;
 import io.ballerina.runtime.api.types.RecordType;
@@ -45,6 +44,7 @@ import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.TypeConverter;
 import io.ballerina.runtime.internal.commons.TypeValuePair;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.types.BRecordType;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
@@ -135,11 +135,65 @@ public class CloneWithType {
             }
         }
 
-        return convert((BRefValue) value, matchingType, unresolvedValues, t);
+        return convert((BRefValue) value, matchingType, unresolvedValues, isValidatedBy(targetType), t);
+    }
+
+    /**
+     * Converts a member of a value that has already been checked against the type of its container. The check of the
+     * container walked the whole member, so unless the target type of the member needs a member type to be picked
+     * from it, the conversion goes ahead without checking the member and all its members again.
+     */
+    private static Object convertCheckedMember(Object value, Type targetType, List<TypeValuePair> unresolvedValues,
+                                               boolean allowAmbiguity, BTypedesc t) {
+        if (!(value instanceof BRefValue) || !isPlannedTarget(targetType)) {
+            return convert(value, targetType, unresolvedValues, allowAmbiguity, t);
+        }
+        return convert((BRefValue) value, targetType, unresolvedValues, isValidatedBy(targetType), t);
+    }
+
+    private static Object convertMember(Object value, Type targetType, List<TypeValuePair> unresolvedValues,
+                                        boolean allowAmbiguity, boolean checked, BTypedesc t) {
+        if (checked) {
+            return convertCheckedMember(value, targetType, unresolvedValues, allowAmbiguity, t);
+        }
+        return convert(value, targetType, unresolvedValues, allowAmbiguity, t);
+    }
+
+    /**
+     * Returns whether the convertible types of a value for the given type can only be the type itself, in which case
+     * the type of an already checked value does not have to be computed again.
+     */
+    private static boolean isPlannedTarget(Type targetType) {
+        switch (targetType.getTag()) {
+            case TypeTags.UNION_TAG:
+            case TypeTags.ANYDATA_TAG:
+            case TypeTags.FINITE_TYPE_TAG:
+            case TypeTags.INTERSECTION_TAG:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Returns whether finding the given type among the convertible types of a value also checked all the members of
+     * the value against the member types of the given type.
+     */
+    private static boolean isValidatedBy(Type targetType) {
+        switch (targetType.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.MAP_TAG:
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TUPLE_TAG:
+            case TypeTags.JSON_TAG:
+                return true;
+            default:
+                return false;
+        }
     }
 
     private static Object convert(BRefValue value, Type targetType, List<TypeValuePair> unresolvedValues,
-                                  BTypedesc t) {
+                                  boolean checked, BTypedesc t) {
         TypeValuePair typeValuePair = new TypeValuePair(value, targetType);
 
         if (unresolvedValues.contains(typeValuePair)) {
@@ -155,11 +209,11 @@ public class CloneWithType {
         switch (value.getType().getTag()) {
             case TypeTags.MAP_TAG:
             case TypeTags.RECORD_TYPE_TAG:
-                newValue = convertMap((BMap<?, ?>) value, targetType, unresolvedValues, t);
+                newValue = convertMap((BMap<?, ?>) value, targetType, unresolvedValues, checked, t);
                 break;
             case TypeTags.ARRAY_TAG:
             case TypeTags.TUPLE_TAG:
-                newValue = convertArray((BArray) value, targetType, unresolvedValues, t);
+                newValue = convertArray((BArray) value, targetType, unresolvedValues, checked, t);
                 break;
             case TypeTags.TABLE_TAG:
                 newValue = convertTable((BTable<?, ?>) value, targetType, unresolvedValues, t);
@@ -182,38 +236,37 @@ public class CloneWithType {
     }
 
     private static Object convertMap(BMap<?, ?> map, Type targetType, List<TypeValuePair> unresolvedValues,
-                                     BTypedesc t) {
+                                     boolean checked, BTypedesc t) {
         switch (targetType.getTag()) {
             case TypeTags.MAP_TAG:
                 BMapInitialValueEntry[] initialValues = new BMapInitialValueEntry[map.entrySet().size()];
                 Type constraintType = ((MapType) targetType).getConstrainedType();
                 int count = 0;
                 for (Map.Entry<?, ?> entry : map.entrySet()) {
-                    Object newValue = convert(entry.getValue(), constraintType, unresolvedValues, true, t);
+                    Object newValue = convertMember(entry.getValue(), constraintType, unresolvedValues, true,
+                                                    checked, t);
                     initialValues[count++] = ValueCreator
                             .createKeyFieldEntry(StringUtils.fromString(entry.getKey().toString()), newValue);
                 }
                 return ValueCreator.createMapValue(targetType, initialValues);
             case TypeTags.RECORD_TYPE_TAG:
-                RecordType recordType = (RecordType) targetType;
+                BRecordType recordType = (BRecordType) targetType;
 
                 Type restFieldType = recordType.getRestFieldType();
-                Map<String, Type> targetTypeField = new HashMap<>();
-                for (Field field : recordType.getFields().values()) {
-                    targetTypeField.put(field.getFieldName(), field.getFieldType());
-                }
+                Map<String, Type> targetTypeField = recordType.getFieldTypes();
                 if (t != null && t.getDescribingType() == targetType) {
                     return convertToRecordWithTypeDesc(map, unresolvedValues, t, restFieldType,
-                                                       targetTypeField);
+                                                       targetTypeField, checked);
                 } else {
                     return convertToRecord(map, unresolvedValues, t, recordType, restFieldType,
-                                           targetTypeField);
+                                           targetTypeField, checked);
                 }
             case TypeTags.JSON_TAG:
                 Type matchingType = TypeConverter.resolveMatchingTypeForUnion(map, targetType);
-                return convert(map, matchingType, unresolvedValues, t);
+                return convert(map, matchingType, unresolvedValues, checked, t);
             case TypeTags.INTERSECTION_TAG:
-                return convertMap(map, ((IntersectionType) targetType).getEffectiveType(), unresolvedValues, t);
+                return convertMap(map, ((IntersectionType) targetType).getEffectiveType(), unresolvedValues, checked,
+                                  t);
             default:
                 break;
         }
@@ -223,11 +276,13 @@ public class CloneWithType {
 
     private static BMap<BString, Object> convertToRecord(BMap<?, ?> map, List<TypeValuePair> unresolvedValues,
                                                          BTypedesc t, RecordType recordType,
-                                                         Type restFieldType, Map<String, Type> targetTypeField) {
+                                                         Type restFieldType, Map<String, Type> targetTypeField,
+                                                         boolean checked) {
         BMap<BString, Object> newRecord;
         Map<String, Object> valueMap = new HashMap<>();
         for (Map.Entry<?, ?> entry : map.entrySet()) {
-            Object newValue = convertRecordEntry(unresolvedValues, t, restFieldType, targetTypeField, entry);
+            Object newValue = convertRecordEntry(unresolvedValues, t, restFieldType, targetTypeField, entry,
+                                                 checked);
             valueMap.put(entry.getKey().toString(), newValue);
         }
         newRecord = ValueCreator.createRecordValue(recordType.getPackage(), recordType.getName(), valueMap);
@@ -236,11 +291,12 @@ public class CloneWithType {
 
     private static BMap<?, ?> convertToRecordWithTypeDesc(BMap<?, ?> map, List<TypeValuePair> unresolvedValues,
                                                           BTypedesc t, Type restFieldType,
-                                                          Map<String, Type> targetTypeField) {
+                                                          Map<String, Type> targetTypeField, boolean checked) {
         BMapInitialValueEntry[] initialValues = new BMapInitialValueEntry[map.entrySet().size()];
         int count = 0;
         for (Map.Entry<?, ?> entry : map.entrySet()) {
-            Object newValue = convertRecordEntry(unresolvedValues, t, restFieldType, targetTypeField, entry);
+            Object newValue = convertRecordEntry(unresolvedValues, t, restFieldType, targetTypeField, entry,
+                                                 checked);
             initialValues[count++] =
                     ValueCreator.createKeyFieldEntry(StringUtils.fromString(entry.getKey().toString()), newValue);
         }
@@ -249,19 +305,20 @@ public class CloneWithType {
 
     private static Object convertRecordEntry(List<TypeValuePair> unresolvedValues, BTypedesc t,
                                              Type restFieldType, Map<String, Type> targetTypeField,
-                                             Map.Entry<?, ?> entry) {
+                                             Map.Entry<?, ?> entry, boolean checked) {
         Type fieldType = targetTypeField.getOrDefault(entry.getKey().toString(), restFieldType);
-        return convert(entry.getValue(), fieldType, unresolvedValues, true, t);
+        return convertMember(entry.getValue(), fieldType, unresolvedValues, true, checked, t);
     }
 
     private static Object convertArray(BArray array, Type targetType, List<TypeValuePair> unresolvedValues,
-                                       BTypedesc t) {
+                                       boolean checked, BTypedesc t) {
         switch (targetType.getTag()) {
             case TypeTags.ARRAY_TAG:
                 ArrayType arrayType = (ArrayType) targetType;
                 BListInitialValueEntry[] arrayValues = new BListInitialValueEntry[array.size()];
                 for (int i = 0; i < array.size(); i++) {
-                    Object newValue = convert(array.get(i), arrayType.getElementType(), unresolvedValues, t);
+                    Object newValue = convertMember(array.get(i), arrayType.getElementType(), unresolvedValues,
+                                                    false, checked, t);
                     arrayValues[i] = ValueCreator.createListInitialValueEntry(newValue);
                 }
                 return ValueCreator.createArrayValue(arrayType, arrayType.getSize(), arrayValues);
@@ -271,21 +328,22 @@ public class CloneWithType {
                 BListInitialValueEntry[] tupleValues = new BListInitialValueEntry[array.size()];
                 for (int i = 0; i < array.size(); i++) {
                     Type elementType = (i < minLen) ? tupleType.getTupleTypes().get(i) : tupleType.getRestType();
-                    Object newValue = convert(array.get(i), elementType, unresolvedValues, t);
+                    Object newValue = convertMember(array.get(i), elementType, unresolvedValues, false, checked, t);
                     tupleValues[i] = ValueCreator.createListInitialValueEntry(newValue);
                 }
                 return ValueCreator.createTupleValue(tupleType, array.size(), tupleValues);
             case TypeTags.JSON_TAG:
                 Object[] jsonValues = new Object[array.size()];
                 for (int i = 0; i < array.size(); i++) {
-                    Object newValue = convert(array.get(i), PredefinedTypes.TYPE_JSON, unresolvedValues, t);
+                    Object newValue = convertMember(array.get(i), PredefinedTypes.TYPE_JSON, unresolvedValues, false,
+                                                    checked, t);
                     jsonValues[i] = newValue;
                 }
                 return ValueCreator.createArrayValue(jsonValues,
                                                      TypeCreator.createArrayType(PredefinedTypes.TYPE_JSON));
             case TypeTags.INTERSECTION_TAG:
                 return convertArray(array, ((IntersectionType) targetType).getEffectiveType(),
-                                    unresolvedValues, t);
+                                    unresolvedValues, checked, t);
             default:
                 break;
         }
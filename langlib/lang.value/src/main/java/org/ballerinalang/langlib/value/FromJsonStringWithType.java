@@ -41,6 +41,10 @@ public class FromJsonStringWithType {
             if (str.equals("null")) {
                 return FromJsonWithType.fromJsonWithType(null, t);
             } else {
+                Object boundValue = JsonStringBinder.bind(str, t);
+                if (boundValue != null) {
+                    return boundValue;
+                }
                 Object jsonFromString = JsonParser.parse(str);
                 return FromJsonWithType.fromJsonWithType(jsonFromString, t);
             }
@@ -0,0 +1,519 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.value;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BListInitialValueEntry;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.TypeConverter;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.types.BRecordType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binds a JSON string directly to a record, map or array type, without building the generic JSON value first.
+ * <p>
+ * The binder only accepts documents for which the result is known to be the same as parsing the string with
+ * {@code JsonParser} and converting the parsed value with {@link FromJsonWithType}. Anything else, including every
+ * malformed document and every value that does not belong to the target type, makes the binder give up so that the
+ * caller takes the generic path, which reports the error.
+ *
+ * @since 2.0.0
+ */
+class JsonStringBinder {
+
+    private static final int MAX_CACHED_PLANS = 1024;
+    private static final Map<Type, Plan> PLANS = new ConcurrentHashMap<>();
+    private static final Plan NO_PLAN = new Plan(null);
+
+    private final String json;
+    private int index;
+
+    private JsonStringBinder(String json) {
+        this.json = json;
+    }
+
+    /**
+     * Binds the given JSON string to the type described by the given typedesc.
+     *
+     * @param json JSON string
+     * @param t    typedesc of the target type
+     * @return the bound value, or null if the string has to be converted through the generic path
+     */
+    static Object bind(String json, BTypedesc t) {
+        Plan plan = getPlan(t.getDescribingType());
+        if (plan == NO_PLAN) {
+            return null;
+        }
+        JsonStringBinder binder = new JsonStringBinder(json);
+        try {
+            binder.skipWhitespace();
+            Object value = binder.bindValue(plan, t);
+            binder.skipWhitespace();
+            if (binder.index != json.length()) {
+                return null;
+            }
+            return value;
+        } catch (UnboundException | BError e) {
+            return null;
+        }
+    }
+
+    private static Plan getPlan(Type type) {
+        Plan plan = PLANS.get(type);
+        if (plan != null) {
+            return plan;
+        }
+        switch (type.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.MAP_TAG:
+            case TypeTags.ARRAY_TAG:
+                plan = createPlan(type, new HashMap<>());
+                break;
+            default:
+                plan = NO_PLAN;
+                break;
+        }
+        if (PLANS.size() < MAX_CACHED_PLANS) {
+            PLANS.put(type, plan);
+        }
+        return plan;
+    }
+
+    private static Plan createPlan(Type type, Map<Type, RecordPlan> recordPlans) {
+        switch (type.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+                RecordPlan recordPlan = recordPlans.get(type);
+                if (recordPlan != null) {
+                    return recordPlan;
+                }
+                BRecordType recordType = (BRecordType) type;
+                recordPlan = new RecordPlan(recordType);
+                recordPlans.put(type, recordPlan);
+                for (Map.Entry<String, Type> field : recordType.getFieldTypes().entrySet()) {
+                    recordPlan.fieldPlans.put(field.getKey(), createPlan(field.getValue(), recordPlans));
+                }
+                for (Map.Entry<String, Field> field : recordType.getFields().entrySet()) {
+                    if (SymbolFlags.isFlagOn(field.getValue().getFlags(), SymbolFlags.REQUIRED)) {
+                        recordPlan.requiredFields.add(field.getKey());
+                    }
+                }
+                return recordPlan;
+            case TypeTags.MAP_TAG:
+                return new CollectionPlan(type, createPlan(((MapType) type).getConstrainedType(), recordPlans));
+            case TypeTags.ARRAY_TAG:
+                ArrayType arrayType = (ArrayType) type;
+                if (arrayType.getSize() != -1) {
+                    return NO_PLAN;
+                }
+                return new CollectionPlan(type, createPlan(arrayType.getElementType(), recordPlans));
+            case TypeTags.UNION_TAG:
+                for (Type memberType : ((UnionType) type).getMemberTypes()) {
+                    if (!isSimpleType(memberType)) {
+                        return NO_PLAN;
+                    }
+                }
+                return new Plan(type);
+            default:
+                return isSimpleType(type) ? new Plan(type) : NO_PLAN;
+        }
+    }
+
+    private static boolean isSimpleType(Type type) {
+        switch (type.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.NULL_TAG:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private Object bindValue(Plan plan, BTypedesc t) throws UnboundException {
+        if (plan == NO_PLAN) {
+            throw new UnboundException();
+        }
+        switch (plan.type.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+                return bindRecord((RecordPlan) plan, t);
+            case TypeTags.MAP_TAG:
+                return bindMap((CollectionPlan) plan, t);
+            case TypeTags.ARRAY_TAG:
+                return bindArray((CollectionPlan) plan, t);
+            default:
+                return bindSimpleValue(plan.type, readSimpleValue());
+        }
+    }
+
+    private Object bindRecord(RecordPlan plan, BTypedesc t) throws UnboundException {
+        expect('{');
+        Map<String, Object> valueMap = new HashMap<>();
+        List<BMapInitialValueEntry> entries = new ArrayList<>();
+        skipWhitespace();
+        if (!consume('}')) {
+            do {
+                skipWhitespace();
+                String fieldName = readString();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                Plan fieldPlan = plan.fieldPlans.get(fieldName);
+                if (fieldPlan == null || valueMap.containsKey(fieldName)) {
+                    // Rest fields and duplicate keys are left to the generic path.
+                    throw new UnboundException();
+                }
+                Object fieldValue = bindValue(fieldPlan, t);
+                valueMap.put(fieldName, fieldValue);
+                entries.add(ValueCreator.createKeyFieldEntry(StringUtils.fromString(fieldName), fieldValue));
+                skipWhitespace();
+            } while (consume(','));
+            expect('}');
+        }
+
+        for (String requiredField : plan.requiredFields) {
+            if (!valueMap.containsKey(requiredField)) {
+                throw new UnboundException();
+            }
+        }
+        BRecordType recordType = plan.recordType;
+        if (t.getDescribingType() == recordType) {
+            return t.instantiate(Scheduler.getStrand(), entries.toArray(new BMapInitialValueEntry[0]));
+        }
+        return ValueCreator.createRecordValue(recordType.getPackage(), recordType.getName(), valueMap);
+    }
+
+    private Object bindMap(CollectionPlan plan, BTypedesc t) throws UnboundException {
+        expect('{');
+        Set<String> keys = new HashSet<>();
+        List<BMapInitialValueEntry> entries = new ArrayList<>();
+        skipWhitespace();
+        if (!consume('}')) {
+            do {
+                skipWhitespace();
+                String key = readString();
+                if (!keys.add(key)) {
+                    throw new UnboundException();
+                }
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                Object value = bindValue(plan.memberPlan, t);
+                entries.add(ValueCreator.createKeyFieldEntry(StringUtils.fromString(key), value));
+                skipWhitespace();
+            } while (consume(','));
+            expect('}');
+        }
+        return ValueCreator.createMapValue(plan.type, entries.toArray(new BMapInitialValueEntry[0]));
+    }
+
+    private Object bindArray(CollectionPlan plan, BTypedesc t) throws UnboundException {
+        expect('[');
+        List<BListInitialValueEntry> entries = new ArrayList<>();
+        skipWhitespace();
+        if (!consume(']')) {
+            do {
+                skipWhitespace();
+                entries.add(ValueCreator.createListInitialValueEntry(bindValue(plan.memberPlan, t)));
+                skipWhitespace();
+            } while (consume(','));
+            expect(']');
+        }
+        ArrayType arrayType = (ArrayType) plan.type;
+        return ValueCreator.createArrayValue(arrayType, arrayType.getSize(),
+                                             entries.toArray(new BListInitialValueEntry[0]));
+    }
+
+    private static Object bindSimpleValue(Type type, Object value) throws UnboundException {
+        if (value == null) {
+            if (type.isNilable()) {
+                return null;
+            }
+            throw new UnboundException();
+        }
+
+        Type sourceType = TypeChecker.getType(value);
+        if (sourceType == type) {
+            return value;
+        }
+        if (type.getTag() == TypeTags.UNION_TAG) {
+            for (Type memberType : ((UnionType) type).getMemberTypes()) {
+                if (sourceType == memberType) {
+                    return value;
+                }
+            }
+        }
+
+        // Same as what FromJsonWithType does for a simple value.
+        List<Type> convertibleTypes = TypeConverter.getConvertibleTypesFromJson(value, type, new ArrayList<>());
+        if (convertibleTypes.size() != 1) {
+            throw new UnboundException();
+        }
+        Type matchingType = convertibleTypes.get(0);
+        if (TypeChecker.checkIsType(value, matchingType)) {
+            return value;
+        }
+        return TypeConverter.convertValues(matchingType, value);
+    }
+
+    /**
+     * Reads a string, number, boolean or null token and creates the same value as {@code JsonParser} does for it.
+     */
+    private Object readSimpleValue() throws UnboundException {
+        if (peek() == '"') {
+            return StringUtils.fromString(readString());
+        }
+
+        int start = index;
+        if (consume('-')) {
+            readDigits();
+        } else if (!consumeKeyword("true") && !consumeKeyword("false") && !consumeKeyword("null")) {
+            readDigits();
+        }
+        String token = json.substring(start, index);
+        switch (token) {
+            case "true":
+                return Boolean.TRUE;
+            case "false":
+                return Boolean.FALSE;
+            case "null":
+                return null;
+            default:
+                break;
+        }
+
+        boolean fraction = false;
+        if (consume('.')) {
+            fraction = true;
+            readDigits();
+        }
+        if (consume('e') || consume('E')) {
+            if (!fraction) {
+                // JsonParser does not accept an exponent without a fraction.
+                throw new UnboundException();
+            }
+            if (!consume('+')) {
+                consume('-');
+            }
+            readDigits();
+        }
+        token = json.substring(start, index);
+        try {
+            if (token.charAt(0) == '-' && Double.parseDouble(token) == 0) {
+                return Double.parseDouble(token);
+            }
+            return fraction ? ValueCreator.createDecimalValue(token) : (Object) Long.parseLong(token);
+        } catch (NumberFormatException e) {
+            throw new UnboundException();
+        }
+    }
+
+    private void readDigits() throws UnboundException {
+        int start = index;
+        while (index < json.length() && json.charAt(index) >= '0' && json.charAt(index) <= '9') {
+            index++;
+        }
+        if (index == start) {
+            throw new UnboundException();
+        }
+    }
+
+    private String readString() throws UnboundException {
+        expect('"');
+        StringBuilder builder = null;
+        int start = index;
+        while (true) {
+            if (index >= json.length()) {
+                throw new UnboundException();
+            }
+            char ch = json.charAt(index);
+            if (ch == '"') {
+                String value = builder == null ? json.substring(start, index) :
+                        builder.append(json, start, index).toString();
+                index++;
+                return value;
+            }
+            if (ch < 0x20) {
+                throw new UnboundException();
+            }
+            if (ch != '\\') {
+                index++;
+                continue;
+            }
+
+            if (builder == null) {
+                builder = new StringBuilder();
+            }
+            builder.append(json, start, index);
+            index++;
+            builder.append(readEscapedChar());
+            start = index;
+        }
+    }
+
+    private char readEscapedChar() throws UnboundException {
+        if (index >= json.length()) {
+            throw new UnboundException();
+        }
+        char ch = json.charAt(index++);
+        switch (ch) {
+            case '"':
+            case '\\':
+            case '/':
+                return ch;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                if (index + 4 > json.length()) {
+                    throw new UnboundException();
+                }
+                int codePoint = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(json.charAt(index++), 16);
+                    if (digit < 0) {
+                        throw new UnboundException();
+                    }
+                    codePoint = codePoint * 16 + digit;
+                }
+                return (char) codePoint;
+            default:
+                throw new UnboundException();
+        }
+    }
+
+    private void skipWhitespace() {
+        while (index < json.length()) {
+            char ch = json.charAt(index);
+            if (ch != ' ' && ch != '\t' && ch != '\n' && ch != '\r') {
+                return;
+            }
+            index++;
+        }
+    }
+
+    private char peek() throws UnboundException {
+        if (index >= json.length()) {
+            throw new UnboundException();
+        }
+        return json.charAt(index);
+    }
+
+    private boolean consume(char ch) {
+        if (index < json.length() && json.charAt(index) == ch) {
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean consumeKeyword(String keyword) {
+        if (json.startsWith(keyword, index)) {
+            index += keyword.length();
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char ch) throws UnboundException {
+        if (!consume(ch)) {
+            throw new UnboundException();
+        }
+    }
+
+    /**
+     * Conversion plan of a type. A plan of a simple type, or of a union of simple types, binds a single token.
+     */
+    private static class Plan {
+
+        final Type type;
+
+        Plan(Type type) {
+            this.type = type;
+        }
+    }
+
+    /**
+     * Conversion plan of a record type, with the plans of its fields and the fields that have to be present.
+     */
+    private static class RecordPlan extends Plan {
+
+        final BRecordType recordType;
+        final Map<String, Plan> fieldPlans = new HashMap<>();
+        final List<String> requiredFields = new ArrayList<>();
+
+        RecordPlan(BRecordType recordType) {
+            super(recordType);
+            this.recordType = recordType;
+        }
+    }
+
+    /**
+     * Conversion plan of a map or an array type, with the plan of its members.
+     */
+    private static class CollectionPlan extends Plan {
+
+        final Plan memberPlan;
+
+        CollectionPlan(Type type, Plan memberPlan) {
+            super(type);
+            this.memberPlan = memberPlan;
+        }
+    }
+
+    /**
+     * Thrown when the document cannot be bound directly and has to go through the generic path.
+     */
+    private static class UnboundException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        UnboundException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -570,9 +570,11 @@ public class LangLibArrayTest {
                 "testSort8",
                 "testSort9",
                 "testSort10",
+                "testSort11",
                 "testReadOnlyArrayFilter",
                 "testTupleFilter",
-                "testTupleReverse"
+                "testTupleReverse",
+                "testIterativeFunctionsYieldingForSomeElements"
         };
     }
 }
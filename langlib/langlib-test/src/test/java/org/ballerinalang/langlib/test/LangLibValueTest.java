@@ -353,7 +353,8 @@ public class LangLibValueTest {
                 { "testCloneWithTypeWithFiniteArrayTypeFromIntArray" },
                 { "testCloneWithTypeWithUnionOfFiniteTypeArraysFromIntArray" },
                 { "testCloneWithTypeWithUnionTypeArrayFromIntArray" },
-                { "testCloneWithTypeWithFiniteTypeArrayFromIntArrayNegative" }
+                { "testCloneWithTypeWithFiniteTypeArrayFromIntArrayNegative" },
+                { "testCloneWithTypeNestedRecordsRepeatedly" }
         };
     }
 
@@ -436,7 +437,8 @@ public class LangLibValueTest {
                 { "testFromJsonStringWithTypeStringArray" },
                 { "testFromJsonStringWithTypeArrayNegative" },
                 { "testFromJsonStringWithTypeIntArray" },
-                { "testFromJsonStringWithTypeWithInferredArgument" }
+                { "testFromJsonStringWithTypeWithInferredArgument" },
+                { "testFromJsonStringWithTypeNestedRecord" }
         };
     }
 
@@ -1182,6 +1182,39 @@ function testSort10() {
     assertValueEquality(sortedArr6, arr3);
 }
 
+function testSort11() {
+    float[] arr = [3.5, float:NaN, 0.0, -0.0, -1.25, 0.0, 2.0];
+    assertValueEquality(arr.sort().toString(), "[-1.25,0.0,-0.0,0.0,2.0,3.5,NaN]");
+    assertValueEquality(arr.sort(array:DESCENDING).toString(), "[3.5,2.0,0.0,-0.0,0.0,-1.25,NaN]");
+
+    byte[] arr2 = [200, 5, 255, 0, 5, 128];
+    assertValueEquality(arr2.sort(), <byte[]> [0, 5, 5, 128, 200, 255]);
+    assertValueEquality(arr2.sort(array:DESCENDING), <byte[]> [255, 200, 128, 5, 5, 0]);
+
+    int[] arr3 = [4, -9223372036854775807, 0, 9223372036854775807, -3];
+    assertValueEquality(arr3.sort(array:DESCENDING), [9223372036854775807, 4, 0, -3, -9223372036854775807]);
+
+    boolean[] arr4 = [true, false, true, false];
+    assertValueEquality(arr4.sort(), [false, false, true, true]);
+    assertValueEquality(arr4.sort(array:DESCENDING), [true, true, false, false]);
+
+    string[] arr5 = ["\u{1F600}", "\u{FFFD}", "b", "a", "ab"];
+    assertValueEquality(arr5.sort(), ["a", "ab", "b", "\u{FFFD}", "\u{1F600}"]);
+    assertValueEquality(arr5.sort(array:DESCENDING), ["\u{1F600}", "\u{FFFD}", "b", "ab", "a"]);
+
+    string[] arr6 = ["c", "bb", "a", "dd", "e"];
+    assertValueEquality(arr6.sort(array:DESCENDING, s => s.length()), ["bb", "dd", "c", "a", "e"]);
+
+    string[] arr7 = ["x", "yy", "", "zzz"];
+    assertValueEquality(arr7.sort(array:ASCENDING, s => s.length() == 0 ? () : s.length() % 2 == 0 ? float:NaN : -<float> s.length()),
+        ["zzz", "x", "yy", ""]);
+    assertValueEquality(arr7.sort(array:DESCENDING, s => s.length() == 0 ? () : s.length() % 2 == 0 ? float:NaN : -<float> s.length()),
+        ["x", "zzz", "yy", ""]);
+
+    int[] arr8 = [3, 1, 2];
+    assertValueEquality(arr8.sort(array:DESCENDING, i => i == 2 ? () : i.toString()), [3, 1, 2]);
+}
+
 function testTupleReverse() {
     [int, string, float] tupleArr = [2,  "abc", 2.4];
     anydata[] y = tupleArr.reverse();
@@ -1289,6 +1322,37 @@ function testReadOnlyArrayFilter() {
     assertFalse(evenNumbers.isReadOnly());
 }
 
+function testIterativeFunctionsYieldingForSomeElements() {
+    int[] numbers = [1, 2, 3, 4, 5, 6];
+    int[] mapped = numbers.map(function (int i) returns int {
+        if (i % 3 == 0) {
+            future<int> f = start getRandomNumber(i);
+            return checkpanic wait f;
+        }
+        return i * 10;
+    });
+    assertValueEquality([10, 20, 5, 40, 50, 8], mapped);
+
+    int[] filtered = numbers.filter(function (int i) returns boolean {
+        if (i == 2) {
+            future<int> f = start getRandomNumber(i);
+            int value = checkpanic wait f;
+            return value == 4;
+        }
+        return i > 4;
+    });
+    assertValueEquality([2, 5, 6], filtered);
+
+    int total = numbers.reduce(function (int sum, int i) returns int {
+        if (i == 1) {
+            future<int> f = start getRandomNumber(i);
+            return sum + checkpanic wait f;
+        }
+        return sum + i;
+    }, 0);
+    assertValueEquality(23, total);
+}
+
 function getRandomNumber(int i) returns int {
     return i + 2;
 }
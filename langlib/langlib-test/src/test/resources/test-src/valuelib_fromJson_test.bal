@@ -384,6 +384,56 @@ function testFromJsonStringWithTypeWithInferredArgument() {
     assertEquality(a is error, true);
 }
 
+type InvoiceLine record {|
+    string item;
+    int quantity;
+    float weight;
+    decimal price;
+    string? note;
+|};
+
+type Invoice record {
+    int id;
+    string customer;
+    InvoiceLine[] lines;
+    map<int> totals;
+    string reference?;
+};
+
+function testFromJsonStringWithTypeNestedRecord() {
+    string s = "{\"id\": 1, \"customer\": \"Anne \\\"A\\\" \\u00e9\", \"lines\": [" +
+        "{\"item\": \"apple\", \"quantity\": 2, \"weight\": 3, \"price\": 1.50, \"note\": null}, " +
+        "{\"item\": \"pear\", \"quantity\": 1, \"weight\": 0.5, \"price\": 2, \"note\": \"ripe\"}" +
+        "], \"totals\": {\"apple\": 2, \"pear\": 1}}";
+    Invoice invoice = checkpanic s.fromJsonStringWithType(Invoice);
+    assertEquality(invoice.id, 1);
+    assertEquality(invoice.customer, "Anne \"A\" \u{e9}");
+    assertEquality(invoice?.reference, ());
+    assertEquality(invoice.lines.length(), 2);
+    assertEquality(invoice.lines[0].weight, 3.0);
+    assertEquality(invoice.lines[0].price, 1.50d);
+    assertEquality(invoice.lines[0].note, ());
+    assertEquality(invoice.lines[1].price, 2d);
+    assertEquality(invoice.lines[1].note, "ripe");
+    assertEquality(invoice.totals, {apple: 2, pear: 1});
+
+    // A field that is not described by the record type.
+    string withRestField = "{\"id\": 2, \"customer\": \"Bob\", \"lines\": [], \"totals\": {}, " +
+        "\"channel\": \"web\"}";
+    Invoice invoiceWithRestField = checkpanic withRestField.fromJsonStringWithType(Invoice);
+    assertEquality(invoiceWithRestField["channel"], "web");
+
+    string missingField = "{\"id\": 3, \"lines\": [], \"totals\": {}}";
+    Invoice|error missingFieldResult = missingField.fromJsonStringWithType(Invoice);
+    assertEquality(missingFieldResult is error, true);
+    error err = <error> missingFieldResult;
+    assertEquality(err.detail()["message"], "'map<json>' value cannot be converted to 'Invoice'");
+
+    string invalidJson = "{\"id\": 4, \"customer\": \"Bob\",";
+    Invoice|error invalidJsonResult = invalidJson.fromJsonStringWithType(Invoice);
+    assertEquality(invalidJsonResult is error, true);
+}
+
 type OpenRecordWithUnionTarget record {|
     string|decimal...;
 |};
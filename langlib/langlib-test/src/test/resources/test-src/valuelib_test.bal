@@ -1373,6 +1373,52 @@ function testCloneWithTypeWithFiniteTypeArrayFromIntArrayNegative() {
     assert(messageString, "'int[]' value cannot be converted to '(IntThreeOrFour[]|FloatThreeOrFour[])': ambiguous target type");
 }
 
+type OrderLine record {|
+    string item;
+    int quantity;
+    decimal|string price;
+|};
+
+type Order record {|
+    int id;
+    OrderLine[] lines;
+    map<OrderLine> linesByItem;
+    json...;
+|};
+
+function testCloneWithTypeNestedRecordsRepeatedly() {
+    json orderJson = {
+        id: 1,
+        lines: [{item: "apple", quantity: 2, price: 1.5}, {item: "pear", quantity: 1, price: "free"}],
+        linesByItem: {apple: {item: "apple", quantity: 2, price: 1.5}},
+        note: {text: "leave at the door"}
+    };
+
+    int i = 0;
+    while i < 3 {
+        Order|error result = orderJson.cloneWithType(Order);
+        assert(result is Order, true);
+        Order ord = checkpanic result;
+        assert(ord.lines[0].price is decimal, true);
+        assert(ord.lines[1].price, "free");
+        assert(ord.linesByItem["apple"]?.quantity, 2);
+        assert(ord["note"], {text: "leave at the door"});
+        i += 1;
+    }
+
+    json invalidOrderJson = {
+        id: 2,
+        lines: [{item: "apple", quantity: "two", price: 1.5}],
+        linesByItem: {}
+    };
+    Order|error invalid = invalidOrderJson.cloneWithType(Order);
+    assert(invalid is error, true);
+    error err = <error> invalid;
+    var message = err.detail()["message"];
+    string messageString = message is error? message.toString(): message.toString();
+    assert(messageString, "'map<json>' value cannot be converted to 'Order'");
+}
+
 /////////////////////////// Tests for `toJson()` ///////////////////////////
 
 type Student2 record {
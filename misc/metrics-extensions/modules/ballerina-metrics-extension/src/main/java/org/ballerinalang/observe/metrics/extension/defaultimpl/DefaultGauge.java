@@ -23,6 +23,7 @@ import io.ballerina.runtime.observability.metrics.MetricId;
 import io.ballerina.runtime.observability.metrics.Snapshot;
 import io.ballerina.runtime.observability.metrics.StatisticConfig;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.DoubleAdder;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -38,7 +39,9 @@ public class DefaultGauge extends AbstractMetric implements Gauge {
 
     private final LongAdder count = new LongAdder();
     private final DoubleAdder sum = new DoubleAdder();
-    private final DoubleAdder value = new DoubleAdder();
+    // Raw bits of the current value, updated with compare-and-set so that the histograms record the exact value
+    // resulting from each update without locking the gauge
+    private final AtomicLong valueBits = new AtomicLong(Double.doubleToRawLongBits(0D));
     private final RollingHistogram[] rollingHistograms;
 
     private DefaultGauge(MetricId id, Clock clock, StatisticConfig... statisticConfigs) {
@@ -66,36 +69,35 @@ public class DefaultGauge extends AbstractMetric implements Gauge {
         }
     }
 
+    private double addAndGet(double amount) {
+        long currentBits;
+        double newValue;
+        do {
+            currentBits = valueBits.get();
+            newValue = Double.longBitsToDouble(currentBits) + amount;
+        } while (!valueBits.compareAndSet(currentBits, Double.doubleToRawLongBits(newValue)));
+        return newValue;
+    }
+
     @Override
     public void increment(double amount) {
-        synchronized (this) {
-            value.add(amount);
-            updateHistogram(value.sum());
-        }
+        updateHistogram(addAndGet(amount));
     }
 
     @Override
     public void decrement(double amount) {
-        synchronized (this) {
-            value.add(-amount);
-            updateHistogram(value.sum());
-        }
+        updateHistogram(addAndGet(-amount));
     }
 
     @Override
     public void setValue(double value) {
-        synchronized (this) {
-            this.value.reset();
-            this.value.add(value);
-            updateHistogram(value);
-        }
+        valueBits.set(Double.doubleToRawLongBits(value));
+        updateHistogram(value);
     }
 
     @Override
     public double getValue() {
-        synchronized (this) {
-            return value.sum();
-        }
+        return Double.longBitsToDouble(valueBits.get());
     }
 
     @Override
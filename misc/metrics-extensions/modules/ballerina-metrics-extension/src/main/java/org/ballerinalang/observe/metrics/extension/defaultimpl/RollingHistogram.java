@@ -21,7 +21,6 @@ import io.ballerina.runtime.observability.metrics.PercentileValue;
 import io.ballerina.runtime.observability.metrics.Snapshot;
 import io.ballerina.runtime.observability.metrics.StatisticConfig;
 import org.HdrHistogram.DoubleHistogram;
-import org.HdrHistogram.DoubleRecorder;
 
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
@@ -42,9 +41,10 @@ public class RollingHistogram {
     private final StatisticConfig statisticConfig;
 
     /**
-     * Recorder in a ring buffer.
+     * Recorder in a ring buffer. Each recorder is striped by thread, so that recording does not contend on a single
+     * histogram.
      */
-    private final DoubleRecorder[] ringBuffer;
+    private final StripedDoubleRecorder[] ringBuffer;
 
     /**
      * Current bucket index.
@@ -91,9 +91,9 @@ public class RollingHistogram {
         this.clock = clock;
         this.statisticConfig = statisticConfig;
         int ageBuckets = (int) statisticConfig.getBuckets();
-        ringBuffer = new DoubleRecorder[ageBuckets];
+        ringBuffer = new StripedDoubleRecorder[ageBuckets];
         for (int i = 0; i < ageBuckets; i++) {
-            ringBuffer[i] = new DoubleRecorder(statisticConfig.getPercentilePrecision());
+            ringBuffer[i] = new StripedDoubleRecorder(statisticConfig.getPercentilePrecision());
         }
         this.currentBucket = 0;
         this.lastRotateTimestampMillis = clock.getCurrentTime();
@@ -105,7 +105,7 @@ public class RollingHistogram {
     public void record(double value) {
         rotate();
         try {
-            for (DoubleRecorder recorder : ringBuffer) {
+            for (StripedDoubleRecorder recorder : ringBuffer) {
                 recorder.recordValue(value);
             }
         } finally {
@@ -187,11 +187,10 @@ public class RollingHistogram {
     }
 
     private void accumulate() {
-        currentHistogram().getIntervalHistogramInto(intervalHistogram);
-        accumulatedHistogram.add(intervalHistogram);
+        currentHistogram().addIntervalHistogramTo(intervalHistogram, accumulatedHistogram);
     }
 
-    private DoubleRecorder currentHistogram() {
+    private StripedDoubleRecorder currentHistogram() {
         return ringBuffer[currentBucket];
     }
 }
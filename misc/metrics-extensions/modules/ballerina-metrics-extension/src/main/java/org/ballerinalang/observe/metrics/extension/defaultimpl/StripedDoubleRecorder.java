@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe.metrics.extension.defaultimpl;
+
+import org.HdrHistogram.DoubleHistogram;
+import org.HdrHistogram.DoubleRecorder;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Records values into a set of {@link DoubleRecorder} stripes selected by the recording thread, so that threads
+ * recording concurrently mostly update different histograms. The stripes are created when first used and are merged
+ * when an interval histogram is taken.
+ *
+ * @since 2.0.0
+ */
+class StripedDoubleRecorder {
+
+    private static final int STRIPES = stripeCount(Runtime.getRuntime().availableProcessors());
+
+    private final int numberOfSignificantValueDigits;
+    private final AtomicReferenceArray<DoubleRecorder> stripes = new AtomicReferenceArray<>(STRIPES);
+
+    StripedDoubleRecorder(int numberOfSignificantValueDigits) {
+        this.numberOfSignificantValueDigits = numberOfSignificantValueDigits;
+    }
+
+    void recordValue(double value) {
+        int index = stripeIndex(Thread.currentThread().getId());
+        DoubleRecorder recorder = stripes.get(index);
+        if (recorder == null) {
+            stripes.compareAndSet(index, null, new DoubleRecorder(numberOfSignificantValueDigits));
+            recorder = stripes.get(index);
+        }
+        recorder.recordValue(value);
+    }
+
+    void reset() {
+        for (int i = 0; i < STRIPES; i++) {
+            DoubleRecorder recorder = stripes.get(i);
+            if (recorder != null) {
+                recorder.reset();
+            }
+        }
+    }
+
+    /**
+     * Adds the values recorded since the last interval histogram was taken, or since the last reset, to the given
+     * histogram.
+     *
+     * @param intervalHistogram histogram reused to take the interval histogram of each stripe
+     * @param targetHistogram   histogram to add the recorded values to
+     */
+    void addIntervalHistogramTo(DoubleHistogram intervalHistogram, DoubleHistogram targetHistogram) {
+        for (int i = 0; i < STRIPES; i++) {
+            DoubleRecorder recorder = stripes.get(i);
+            if (recorder != null) {
+                recorder.getIntervalHistogramInto(intervalHistogram);
+                targetHistogram.add(intervalHistogram);
+            }
+        }
+    }
+
+    private static int stripeIndex(long threadId) {
+        // Spread sequential thread IDs across the stripes
+        long hash = threadId * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & (STRIPES - 1);
+    }
+
+    private static int stripeCount(int processors) {
+        int stripes = 1;
+        while (stripes < processors) {
+            stripes <<= 1;
+        }
+        return stripes;
+    }
+}
@@ -26,6 +26,9 @@ import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
 /**
@@ -72,4 +75,22 @@ public class GaugeTest {
         Assert.assertEquals(4.0, gauge.getSum());
     }
 
+    @Test
+    public void testConcurrentGaugeUpdates() throws InterruptedException {
+        Gauge gauge = Gauge.builder("test_concurrent_gauge").description("Test Gauge")
+                .register(metricRegistry);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    gauge.increment(2D);
+                    gauge.decrement(1D);
+                }
+            });
+        }
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        Assert.assertEquals(gauge.getValue(), 80000D);
+        Assert.assertEquals(gauge.getCount(), 160000);
+    }
 }
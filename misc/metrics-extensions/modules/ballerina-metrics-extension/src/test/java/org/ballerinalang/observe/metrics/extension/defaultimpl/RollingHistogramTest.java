@@ -24,6 +24,9 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.Mockito.mock;
@@ -204,4 +207,27 @@ public class RollingHistogramTest {
         }
     }
 
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        RollingHistogram histogram = new RollingHistogram(Clock.DEFAULT, StatisticConfig.builder()
+                .percentiles(new double[]{0.5})
+                .expiry(Duration.ofDays(1)).buckets(3).build());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            int thread = i;
+            executor.execute(() -> {
+                for (int j = 1; j <= 1000; j++) {
+                    histogram.record(thread * 1000 + j);
+                }
+            });
+        }
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        Snapshot snapshot = histogram.getSnapshot();
+        Assert.assertEquals(snapshot.getMin(), 1.0, 1.0);
+        Assert.assertEquals(snapshot.getMax(), 8000.0, 80.0);
+        Assert.assertEquals(snapshot.getMean(), 4000.5, 40.0);
+        Assert.assertEquals(percentileValue(snapshot, 0.5), 4000.0, 40.0);
+    }
 }
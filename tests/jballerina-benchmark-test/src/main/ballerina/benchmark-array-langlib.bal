@@ -0,0 +1,90 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Item record {|
+    int id;
+    string name;
+    float price;
+|};
+
+const int ARRAY_SIZE = 1000;
+
+int[] intArray = createIntArray(ARRAY_SIZE);
+string[] stringArray = createStringArray(ARRAY_SIZE);
+Item[] itemArray = createItemArray(ARRAY_SIZE);
+
+function createIntArray(int size) returns int[] {
+    int[] arr = [];
+    foreach int i in 0 ..< size {
+        arr.push(i);
+    }
+    return arr;
+}
+
+function createStringArray(int size) returns string[] {
+    string[] arr = [];
+    foreach int i in 0 ..< size {
+        arr.push("item-" + i.toString());
+    }
+    return arr;
+}
+
+function createItemArray(int size) returns Item[] {
+    Item[] arr = [];
+    foreach int i in 0 ..< size {
+        arr.push({id: i, name: "item-" + i.toString(), price: <float> i});
+    }
+    return arr;
+}
+
+public function benchmarkIntArrayMap() {
+    int[] result = intArray.map(i => i * 2);
+}
+
+public function benchmarkIntArrayFilter() {
+    int[] result = intArray.filter(i => i % 2 == 0);
+}
+
+public function benchmarkIntArrayForEach() {
+    int sum = 0;
+    intArray.forEach(function (int i) {
+        sum += i;
+    });
+}
+
+public function benchmarkIntArrayReduce() {
+    int sum = intArray.reduce(function (int total, int i) returns int => total + i, 0);
+}
+
+public function benchmarkStringArrayMap() {
+    int[] result = stringArray.map(s => s.length());
+}
+
+public function benchmarkStringArrayFilter() {
+    string[] result = stringArray.filter(s => s.endsWith("0"));
+}
+
+public function benchmarkRecordArrayMap() {
+    float[] result = itemArray.map(item => item.price);
+}
+
+public function benchmarkRecordArrayFilter() {
+    Item[] result = itemArray.filter(item => item.price > 500.0);
+}
+
+public function benchmarkRecordArrayReduce() {
+    float total = itemArray.reduce(function (float sum, Item item) returns float => sum + item.price, 0.0);
+}
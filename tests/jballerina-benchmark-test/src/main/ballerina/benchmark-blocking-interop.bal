@@ -0,0 +1,55 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+import ballerina/jballerina.java;
+
+const int BACKEND_LATENCY_MICROS = 50;
+const int CONCURRENT_BACKEND_CALLS = 100;
+
+isolated function blockingBackendCall(int latencyMicros) = @java:Method {
+    name: "blockingBackendCall",
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
+
+function callBlockingBackendConcurrently(int count) {
+    future<()>[] futures = [];
+    int i = 0;
+    while (i < count) {
+        future<()> f = @strand{thread:"any"} start blockingBackendCall(BACKEND_LATENCY_MICROS);
+        futures.push(f);
+        i += 1;
+    }
+    foreach future<()> f in futures {
+        () result = wait f;
+    }
+}
+
+// Run with and without the BALLERINA_VIRTUAL_THREADS=true system variable to compare the throughput of strands
+// blocked in Java calls on platform threads and virtual threads.
+public function benchmarkBlockingExternCalls(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        callBlockingBackendConcurrently(CONCURRENT_BACKEND_CALLS);
+        i += CONCURRENT_BACKEND_CALLS;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        callBlockingBackendConcurrently(CONCURRENT_BACKEND_CALLS);
+        i += CONCURRENT_BACKEND_CALLS;
+    }
+    return (nanoTime() - startTime);
+}
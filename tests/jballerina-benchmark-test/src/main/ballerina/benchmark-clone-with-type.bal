@@ -0,0 +1,102 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type ShippingAddress record {|
+    string street;
+    string city;
+    string country;
+    string postalCode;
+|};
+
+type PurchaseItem record {|
+    string sku;
+    string description;
+    int quantity;
+    decimal unitPrice;
+    string[] tags;
+|};
+
+type PurchaseRequest record {|
+    string requestId;
+    string customerId;
+    ShippingAddress shippingAddress;
+    ShippingAddress billingAddress;
+    PurchaseItem[] items;
+    map<string> attributes;
+|};
+
+const PURCHASE_ITEM_COUNT = 30;
+
+// Builds a purchase request payload of about 5KB.
+function createPurchaseRequestJson() returns json {
+    json[] items = [];
+    int i = 0;
+    while (i < PURCHASE_ITEM_COUNT) {
+        items.push({
+            sku: "SKU-" + i.toString(),
+            description: "Item number " + i.toString() + " of the purchase request",
+            quantity: i + 1,
+            unitPrice: 10.25,
+            tags: ["sale", "category-" + (i % 5).toString()]
+        });
+        i += 1;
+    }
+    json address = {street: "No. 20, Palm Grove", city: "Colombo", country: "Sri Lanka", postalCode: "00300"};
+    return {
+        requestId: "REQ-0001",
+        customerId: "CUST-0001",
+        shippingAddress: address,
+        billingAddress: address,
+        items: items,
+        attributes: {channel: "web", priority: "normal", currency: "LKR"}
+    };
+}
+
+// Converts a JSON payload of about 5KB to a nested record, timing `benchmarkCount` conversions.
+public function benchmarkCloneWithTypeToNestedRecord(int warmupCount, int benchmarkCount) returns int {
+    json payload = createPurchaseRequestJson();
+    int i = 0;
+    while (i < warmupCount) {
+        _ = checkpanic payload.cloneWithType(PurchaseRequest);
+        i += 1;
+    }
+
+    int startTime = nanoTime();
+    i = 0;
+    while (i < benchmarkCount) {
+        _ = checkpanic payload.cloneWithType(PurchaseRequest);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+// Binds a JSON string of about 5KB to a nested record, timing `benchmarkCount` conversions.
+public function benchmarkFromJsonStringWithTypeToNestedRecord(int warmupCount, int benchmarkCount) returns int {
+    string payload = createPurchaseRequestJson().toJsonString();
+    int i = 0;
+    while (i < warmupCount) {
+        _ = checkpanic payload.fromJsonStringWithType(PurchaseRequest);
+        i += 1;
+    }
+
+    int startTime = nanoTime();
+    i = 0;
+    while (i < benchmarkCount) {
+        _ = checkpanic payload.fromJsonStringWithType(PurchaseRequest);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
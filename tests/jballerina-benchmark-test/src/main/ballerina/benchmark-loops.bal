@@ -545,3 +545,98 @@ public function benchmarkJoinWithForeach(int warmupCount, int benchmarkCount) re
     }
     return (nanoTime() - startTime);
 }
+
+const JOIN_INPUT_SIZE = 100000;
+
+// Joins two lists of 100k rows on an int key, timing `benchmarkCount` joins.
+public function benchmarkLargeJoinWithQuery(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(JOIN_INPUT_SIZE);
+    Department[] dl = getDepartmentArray(JOIN_INPUT_SIZE);
+    int i = 0;
+    while (i < warmupCount) {
+        _ = joinPersonsWithDepartments(pl, dl);
+        i += 1;
+    }
+
+    int startTime = nanoTime();
+    i = 0;
+    while (i < benchmarkCount) {
+        _ = joinPersonsWithDepartments(pl, dl);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+function joinPersonsWithDepartments(Person[] pl, Department[] dl) returns DeptPerson[] {
+    return from var person in pl
+        join var dept in dl
+        on person.id equals dept.id
+        select {
+            fname: person.fname,
+            lname: person.lname,
+            dept: dept.name
+        };
+}
+
+const ORDER_BY_INPUT_SIZE = 1000000;
+
+// Returns the 20 persons with the highest scrambled ids out of 1M persons, timing `benchmarkCount` queries.
+public function benchmarkOrderByWithLimit(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = [];
+    int i = 0;
+    while (i < ORDER_BY_INPUT_SIZE) {
+        pl.push({id: (i * 7919) % ORDER_BY_INPUT_SIZE, fname: "FName", lname: "LName"});
+        i += 1;
+    }
+    i = 0;
+    while (i < warmupCount) {
+        _ = getTopPersons(pl, 20);
+        i += 1;
+    }
+
+    int startTime = nanoTime();
+    i = 0;
+    while (i < benchmarkCount) {
+        _ = getTopPersons(pl, 20);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+function getTopPersons(Person[] pl, int count) returns Person[] {
+    return from var person in pl
+        order by person.id descending
+        limit count
+        select person;
+}
+
+const SIMPLE_QUERY_INPUT_SIZE = 1000000;
+
+// Filters and maps 1M persons with a from/where/select query, timing `benchmarkCount` queries.
+public function benchmarkSimpleQueryOverArray(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = [];
+    int i = 0;
+    while (i < SIMPLE_QUERY_INPUT_SIZE) {
+        pl.push({id: i, fname: "FName", lname: "LName"});
+        i += 1;
+    }
+    i = 0;
+    while (i < warmupCount) {
+        _ = getEvenPersonIds(pl);
+        i += 1;
+    }
+
+    int startTime = nanoTime();
+    i = 0;
+    while (i < benchmarkCount) {
+        _ = getEvenPersonIds(pl);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+function getEvenPersonIds(Person[] pl) returns int[] {
+    return from var person in pl
+        where person.id % 2 == 0
+        select person.id;
+}
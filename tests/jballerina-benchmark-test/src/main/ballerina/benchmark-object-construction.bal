@@ -0,0 +1,42 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+class Order {
+    private final string id;
+    private int quantity;
+    private float price;
+    private boolean confirmed = false;
+    private string? note = ();
+
+    function init(string id, int quantity, float price) {
+        self.id = id;
+        self.quantity = quantity;
+        self.price = price;
+    }
+}
+
+isolated class OrderCounter {
+    private int count = 0;
+    private int total = 0;
+}
+
+public function benchmarkObjectConstruction() {
+    Order newOrder = new ("order-1", 2, 10.5);
+}
+
+public function benchmarkIsolatedObjectConstruction() {
+    OrderCounter orderCounter = new;
+}
@@ -0,0 +1,46 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+type CounterType object {
+    function increment(int step) returns int;
+};
+
+class Counter {
+    private int count = 0;
+
+    function increment(int step) returns int {
+        self.count += step;
+        return self.count;
+    }
+
+    function describe(string prefix, boolean verbose = false) returns string {
+        return verbose ? prefix + self.count.toString() : prefix;
+    }
+}
+
+Counter counter = new;
+CounterType counterType = new Counter();
+
+public function benchmarkClassMethodCall() {
+    int count = counter.increment(1);
+}
+
+public function benchmarkClassMethodCallWithDefaultableArg() {
+    string description = counter.describe("counter");
+}
+
+public function benchmarkObjectTypeMethodCall() {
+    int count = counterType.increment(1);
+}
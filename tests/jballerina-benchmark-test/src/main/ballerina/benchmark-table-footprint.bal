@@ -0,0 +1,62 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+import ballerina/jballerina.java;
+
+type Employee record {|
+    readonly int id;
+    string name;
+    float salary;
+|};
+
+type EmployeeTable table<Employee> key(id);
+
+function usedHeapBytes() returns int = @java:Method {
+    name: "usedHeapBytes",
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
+
+function createEmployeeTable(int count) returns EmployeeTable {
+    EmployeeTable employees = table [];
+    int i = 0;
+    while (i < count) {
+        employees.add({id: i, name: "name", salary: <float> i});
+        i += 1;
+    }
+    return employees;
+}
+
+// Creates a keyed table with `benchmarkCount` rows and prints the retained heap per row along with the time taken
+// to create the table and to look up every row by key.
+public function benchmarkKeyedTableHeapFootprint(int warmupCount, int benchmarkCount) returns int {
+    _ = createEmployeeTable(warmupCount);
+
+    int heapBefore = usedHeapBytes();
+    int startTime = nanoTime();
+    EmployeeTable employees = createEmployeeTable(benchmarkCount);
+    int i = 0;
+    float total = 0;
+    while (i < benchmarkCount) {
+        total += employees.get(i).salary;
+        i += 1;
+    }
+    int endTime = nanoTime();
+    int heapAfter = usedHeapBytes();
+
+    if (employees.length() > 0) {
+        println("retained bytes per row: ", (heapAfter - heapBefore) / employees.length());
+    }
+    return (endTime - startTime);
+}
@@ -0,0 +1,85 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Order record {|
+    readonly int id;
+    readonly string customerId;
+    string status;
+|};
+
+type OrderTable table<Order> key(id);
+
+const CUSTOMER_COUNT = 1000;
+
+function createOrderTable(int count) returns OrderTable {
+    OrderTable orders = table [];
+    int i = 0;
+    while (i < count) {
+        string customerId = (i % CUSTOMER_COUNT).toString();
+        orders.add({id: i, customerId: customerId, status: customerId});
+        i += 1;
+    }
+    return orders;
+}
+
+// Looks up the orders of a single customer in a 100k row table through a mutable field, which scans every row.
+public function benchmarkTableScanLookup(int warmupCount, int benchmarkCount) returns int {
+    OrderTable orders = createOrderTable(100000);
+    int i = 0;
+    while (i < warmupCount) {
+        _ = lookupOrdersByStatus(orders, (i % CUSTOMER_COUNT).toString());
+        i += 1;
+    }
+
+    int startTime = nanoTime();
+    i = 0;
+    while (i < benchmarkCount) {
+        _ = lookupOrdersByStatus(orders, (i % CUSTOMER_COUNT).toString());
+        i += 1;
+    }
+    return nanoTime() - startTime;
+}
+
+// Looks up the orders of a single customer in a 100k row table through a readonly field, which uses the field index
+// built on the first lookup.
+public function benchmarkTableIndexLookup(int warmupCount, int benchmarkCount) returns int {
+    OrderTable orders = createOrderTable(100000);
+    int i = 0;
+    while (i < warmupCount) {
+        _ = lookupOrdersByCustomer(orders, (i % CUSTOMER_COUNT).toString());
+        i += 1;
+    }
+
+    int startTime = nanoTime();
+    i = 0;
+    while (i < benchmarkCount) {
+        _ = lookupOrdersByCustomer(orders, (i % CUSTOMER_COUNT).toString());
+        i += 1;
+    }
+    return nanoTime() - startTime;
+}
+
+function lookupOrdersByStatus(OrderTable orders, string status) returns int[] {
+    return from var o in orders
+        where o.status == status
+        select o.id;
+}
+
+function lookupOrdersByCustomer(OrderTable orders, string customerId) returns int[] {
+    return from var o in orders
+        where o.customerId == customerId
+        select o.id;
+}
@@ -36,6 +36,16 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkLargeJoinWithQuery", benchmarkLargeJoinWithQuery);
+    addSingleExecFunction("benchmarkOrderByWithLimit", benchmarkOrderByWithLimit);
+    addSingleExecFunction("benchmarkSimpleQueryOverArray", benchmarkSimpleQueryOverArray);
+    addSingleExecFunction("benchmarkBlockingExternCalls", benchmarkBlockingExternCalls);
+    addSingleExecFunction("benchmarkKeyedTableHeapFootprint", benchmarkKeyedTableHeapFootprint);
+    addSingleExecFunction("benchmarkTableScanLookup", benchmarkTableScanLookup);
+    addSingleExecFunction("benchmarkTableIndexLookup", benchmarkTableIndexLookup);
+    addSingleExecFunction("benchmarkCloneWithTypeToNestedRecord", benchmarkCloneWithTypeToNestedRecord);
+    addSingleExecFunction("benchmarkFromJsonStringWithTypeToNestedRecord",
+            benchmarkFromJsonStringWithTypeToNestedRecord);
 }
 
 public function registerMultiExecFunctions() {
@@ -63,4 +73,18 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkFloatSubtractionWithReturn", benchmarkFloatSubtractionWithReturn);
     addMultiExecFunction("benchmarkFloatDivision", benchmarkFloatDivision);
     addMultiExecFunction("benchmarkFloatDivisionWithReturn", benchmarkFloatDivisionWithReturn);
+    addMultiExecFunction("benchmarkClassMethodCall", benchmarkClassMethodCall);
+    addMultiExecFunction("benchmarkClassMethodCallWithDefaultableArg", benchmarkClassMethodCallWithDefaultableArg);
+    addMultiExecFunction("benchmarkObjectTypeMethodCall", benchmarkObjectTypeMethodCall);
+    addMultiExecFunction("benchmarkObjectConstruction", benchmarkObjectConstruction);
+    addMultiExecFunction("benchmarkIsolatedObjectConstruction", benchmarkIsolatedObjectConstruction);
+    addMultiExecFunction("benchmarkIntArrayMap", benchmarkIntArrayMap);
+    addMultiExecFunction("benchmarkIntArrayFilter", benchmarkIntArrayFilter);
+    addMultiExecFunction("benchmarkIntArrayForEach", benchmarkIntArrayForEach);
+    addMultiExecFunction("benchmarkIntArrayReduce", benchmarkIntArrayReduce);
+    addMultiExecFunction("benchmarkStringArrayMap", benchmarkStringArrayMap);
+    addMultiExecFunction("benchmarkStringArrayFilter", benchmarkStringArrayFilter);
+    addMultiExecFunction("benchmarkRecordArrayMap", benchmarkRecordArrayMap);
+    addMultiExecFunction("benchmarkRecordArrayFilter", benchmarkRecordArrayFilter);
+    addMultiExecFunction("benchmarkRecordArrayReduce", benchmarkRecordArrayReduce);
 }
@@ -27,6 +27,8 @@ import io.ballerina.runtime.api.values.BString;
 
 import java.io.PrintStream;
 import java.util.IllegalFormatConversionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * This class holds utility functionality that is required for benchmarking.
@@ -68,6 +70,28 @@ public class Utils {
         out.println(content);
     }
 
+    /**
+     * Stub for a backend that blocks the calling thread, such as a JDBC driver.
+     *
+     * @param latencyMicros time to block in microseconds
+     */
+    public static void blockingBackendCall(long latencyMicros) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(latencyMicros));
+    }
+
+    /**
+     * Returns the heap usage after requesting a garbage collection, to compare retained sizes of values.
+     *
+     * @return used heap in bytes
+     */
+    public static long usedHeapBytes() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
     public static BString sprintf(BString format, Object... args) {
         StringBuilder result = new StringBuilder();
         for (int i = 0, j, k = 0; i < format.length(); i++) {
@@ -138,6 +138,16 @@ public class TypeTestExprTest {
         BRunUtil.invoke(compileResult, "testIsLikeForTupleWithOutRestDescriptor");
     }
 
+    @Test
+    public void testBasicTypesInUnion() {
+        BRunUtil.invoke(compileResult, "testBasicTypesInUnion");
+    }
+
+    @Test
+    public void testStructuredTypesInUnion() {
+        BRunUtil.invoke(compileResult, "testStructuredTypesInUnion");
+    }
+
     @AfterClass
     public void tearDown() {
         compileResult = null;
@@ -203,6 +203,12 @@ public class ObjectTest {
         Assert.assertEquals(returns[0].stringValue(), "sample name");
     }
 
+    @Test(description = "Test calling attached functions through a class type holding a different class's object")
+    public void testObjectCallAttachedFunctionsOfStructurallyEquivalentClass() {
+        CompileResult compileResult = BCompileUtil.compile("test-src/object/object-call-attached-functions.bal");
+        BRunUtil.invoke(compileResult, "testObjectCallAttachedFunctionsOfStructurallyEquivalentClass");
+    }
+
     @Test(description = "Test object inside object with different values")
     public void testObjectInsideObject() {
         CompileResult compileResult = BCompileUtil.compile("test-src/object/object-self-keyword-pass-values.bal");
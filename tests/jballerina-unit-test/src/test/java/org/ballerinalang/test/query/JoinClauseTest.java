@@ -115,6 +115,18 @@ public class JoinClauseTest {
         Assert.assertTrue(((BBoolean) values[0]).booleanValue());
     }
 
+    @Test(description = "Test join keys that are not equal but have the same string value")
+    public void testJoinOnKeysWithTheSameStringValue() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinOnKeysWithTheSameStringValue");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join keys that are mappings with the fields in a different order")
+    public void testJoinOnMappingKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinOnMappingKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
     @Test(description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 32);
@@ -239,6 +239,12 @@ public class OrderByClauseTest {
                 "<author>Dan Brown</author><author>Enid Blyton</author>");
     }
 
+    @Test(description = "Test query expr with order by clause directly followed by a limit clause")
+    public void testQueryExprWithOrderByAndLimitClauses() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByAndLimitClauses");
+        Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
+    }
+
     @Test(description = "Test negative scenarios for query expr with order by clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 3);
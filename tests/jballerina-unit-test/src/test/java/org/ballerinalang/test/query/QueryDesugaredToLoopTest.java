@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.query;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * This contains methods to test query expressions that are desugared into a single loop.
+ *
+ * @since 2.0.0
+ */
+public class QueryDesugaredToLoopTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/query/query-desugared-to-loop.bal");
+    }
+
+    @Test(description = "Test queries over lists, mappings, tables, ranges and strings")
+    public void testLoopOverCollections() {
+        BRunUtil.invoke(result, "testLoopOverCollections");
+    }
+
+    @Test(description = "Test queries with let and where clauses")
+    public void testLetAndWhereClauses() {
+        BRunUtil.invoke(result, "testLetAndWhereClauses");
+    }
+
+    @Test(description = "Test nested queries and closures referring to a variable of the query")
+    public void testNestedQueriesAndClosures() {
+        BRunUtil.invoke(result, "testNestedQueriesAndClosures");
+    }
+
+    @Test(description = "Test a check expression in the select clause")
+    public void testCheckInSelect() {
+        BRunUtil.invoke(result, "testCheckInSelect");
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.query;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * This contains methods to test query expressions over tables that are filtered through secondary indexes.
+ *
+ * @since 2.0.0
+ */
+public class QueryWithTableFieldIndexTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/query/query-with-table-field-index.bal");
+    }
+
+    @Test(description = "Test where clauses comparing a readonly field with a value")
+    public void testEqualityOnReadonlyField() {
+        BRunUtil.invoke(result, "testEqualityOnReadonlyField");
+    }
+
+    @Test(description = "Test filtering by a readonly field after the table is updated")
+    public void testEqualityAfterTableUpdates() {
+        BRunUtil.invoke(result, "testEqualityAfterTableUpdates");
+    }
+
+    @Test(description = "Test where clauses with a range of values of a readonly field")
+    public void testRangeOnReadonlyField() {
+        BRunUtil.invoke(result, "testRangeOnReadonlyField");
+    }
+
+    @Test(description = "Test where clauses that cannot use an index")
+    public void testMutableAndNonInvariantComparisons() {
+        BRunUtil.invoke(result, "testMutableAndNonInvariantComparisons");
+    }
+
+    @Test(description = "Test where clauses on a field of a readonly table")
+    public void testEqualityOnReadonlyTable() {
+        BRunUtil.invoke(result, "testEqualityOnReadonlyTable");
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
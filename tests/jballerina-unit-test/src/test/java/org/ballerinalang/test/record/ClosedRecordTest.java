@@ -23,6 +23,7 @@ import org.ballerinalang.core.model.values.BInteger;
 import org.ballerinalang.core.model.values.BMap;
 import org.ballerinalang.core.model.values.BString;
 import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.core.util.exceptions.BLangRuntimeException;
 import org.ballerinalang.test.BAssertUtil;
 import org.ballerinalang.test.BCompileUtil;
 import org.ballerinalang.test.BRunUtil;
@@ -326,6 +327,19 @@ public class ClosedRecordTest {
         BRunUtil.invoke(cyclicBal, "testCyclicRecordResolution");
     }
 
+    @Test(description = "Test field access of a closed record with keys known at compile time")
+    public void testFieldAccessWithConstantKeys() {
+        BRunUtil.invoke(compileResult, "testFieldAccessWithConstantKeys");
+    }
+
+    @Test(description = "Test field update of a frozen record with a key known at compile time",
+          expectedExceptions = BLangRuntimeException.class,
+          expectedExceptionsMessageRegExp = ".*Invalid update of record field: modification not allowed on readonly " +
+                  "value.*")
+    public void testFieldUpdateOfFrozenRecordWithConstantKey() {
+        BRunUtil.invoke(compileResult, "testFieldUpdateOfFrozenRecordWithConstantKey");
+    }
+
     @AfterClass
     public void tearDown() {
         compileResult = null;
@@ -125,6 +125,26 @@ public class RecordConstraintTableTest {
         BRunUtil.invoke(result, "testUnionConstrainedTableIteration");
     }
 
+    @Test(description = "Test keys with the same hash code")
+    public void testKeysWithSameHash() {
+        BRunUtil.invoke(result, "testKeysWithSameHash");
+    }
+
+    @Test(description = "Test the iteration order after removing and adding rows")
+    public void testTableOrderAfterRemovals() {
+        BRunUtil.invoke(result, "testTableOrderAfterRemovals");
+    }
+
+    @Test(description = "Test removing and re-adding rows after the key index is rebuilt")
+    public void testReaddRowsAfterRemovals() {
+        BRunUtil.invoke(result, "testReaddRowsAfterRemovals");
+    }
+
+    @Test(description = "Test member store with a key different from the key of the row, but with the same hash")
+    public void testMemberStoreWithDifferentKeyOfSameHash() {
+        BRunUtil.invoke(result, "testMemberStoreWithDifferentKeyOfSameHash");
+    }
+
     @AfterClass
     public void tearDown() {
         result = null;
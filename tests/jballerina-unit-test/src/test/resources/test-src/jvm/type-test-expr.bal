@@ -170,6 +170,75 @@ function testIsLikeForTupleWithOutRestDescriptor() {
     assertEquals(k4 is [int, string], true);
 }
 
+function testBasicTypesInUnion() {
+    byte b = 5;
+    decimal d = 1.5;
+    anydata[] values = [1, b, 2.5, d, "str", true, ()];
+    boolean[] isInt = [];
+    boolean[] isIntOrString = [];
+    boolean[] isNumber = [];
+    boolean[] isOptionalBoolean = [];
+    foreach anydata value in values {
+        isInt.push(value is int);
+        isIntOrString.push(value is int|string);
+        isNumber.push(value is int|float|decimal);
+        isOptionalBoolean.push(value is boolean?);
+    }
+    assertEquals([true, true, false, false, false, false, false], isInt);
+    assertEquals([true, true, false, false, true, false, false], isIntOrString);
+    assertEquals([true, true, true, true, false, false, false], isNumber);
+    assertEquals([false, false, false, false, false, true, true], isOptionalBoolean);
+
+    json j = "str";
+    assertEquals(true, j is string);
+    assertEquals(false, j is float);
+    any a = 1.0;
+    assertEquals(true, a is float);
+    assertEquals(false, a is decimal|int);
+    anydata intValue = 1;
+    assertEquals(true, intValue is byte);
+    assertEquals(false, intValue is string:Char);
+}
+
+type Message record {|
+    string id;
+    int priority;
+|};
+
+type Notification record {|
+    string id;
+    int priority;
+|};
+
+type Alert record {|
+    string id;
+    string priority;
+|};
+
+class Route {
+    string path = "/";
+}
+
+function testStructuredTypesInUnion() {
+    Message message = {id: "m1", priority: 1};
+    anydata|Route value = message;
+    assertEquals(true, value is Message);
+    assertEquals(true, value is Notification);
+    assertEquals(false, value is Alert);
+
+    Notification notification = {id: "n1", priority: 2};
+    value = notification;
+    assertEquals(true, value is Message);
+
+    value = new Route();
+    assertEquals(true, value is Route);
+    assertEquals(false, value is Message);
+
+    value = "not a structure";
+    assertEquals(false, value is Message);
+    assertEquals(false, value is Route);
+}
+
 function assertEquals(anydata expected, anydata actual) {
     if expected == actual {
         return;
@@ -34,3 +34,52 @@ class Person {
         return self.getName();
     }
 }
+
+class Greeter {
+    function greet(string name, string greeting = "Hello") returns string {
+        return greeting + " " + name;
+    }
+
+    function count(int... values) returns int {
+        return values.length();
+    }
+}
+
+class LoudGreeter {
+    function greet(string name, string greeting = "Hello") returns string {
+        return (greeting + " " + name).toUpperAscii();
+    }
+
+    function count(int... values) returns int {
+        return values.length() * 10;
+    }
+}
+
+public function testObjectCallAttachedFunctionsOfStructurallyEquivalentClass() {
+    Greeter greeter = new Greeter();
+    assertEquality("Hello Ballerina", greeter.greet("Ballerina"));
+    assertEquality("Hi Ballerina", greeter.greet("Ballerina", "Hi"));
+    assertEquality(3, greeter.count(1, 2, 3));
+
+    greeter = new LoudGreeter();
+    assertEquality("HELLO BALLERINA", greeter.greet("Ballerina"));
+    assertEquality("HI BALLERINA", greeter.greet("Ballerina", "Hi"));
+    assertEquality(30, greeter.count(1, 2, 3));
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(any|error expected, any|error actual) {
+    if expected is anydata && actual is anydata && expected == actual {
+        return;
+    }
+
+    if expected === actual {
+        return;
+    }
+
+    string expectedValAsString = expected is error ? expected.toString() : expected.toString();
+    string actualValAsString = actual is error ? actual.toString() : actual.toString();
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expectedValAsString + "', found '" + actualValAsString + "'");
+}
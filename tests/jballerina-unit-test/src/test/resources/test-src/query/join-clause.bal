@@ -455,3 +455,57 @@ function getDeptName(int id) returns string {
         return "Operations";
     }
 }
+
+type Tag record {|
+    anydata key;
+    string name;
+|};
+
+function testJoinOnKeysWithTheSameStringValue() returns boolean {
+    Tag[] lhs = [{key: 1, name: "int"}, {key: "1", name: "string"}, {key: (), name: "nil"},
+        {key: 1.0d, name: "decimal"}];
+    Tag[] rhs = [{key: "1", name: "string"}, {key: 1, name: "int"}, {key: "", name: "empty"},
+        {key: 1.00d, name: "decimal"}, {key: (), name: "nil"}];
+
+    string[] joined =
+       from var l in lhs
+       join var r in rhs
+       on l.key equals r.key
+       select l.name + ":" + r.name;
+
+    return joined == ["int:int", "string:string", "nil:nil", "decimal:decimal"];
+}
+
+type KeyedName record {|
+    map<int> key;
+    string name;
+|};
+
+function testJoinOnMappingKeys() returns boolean {
+    KeyedName[] lhs = [{key: {a: 1, b: 2}, name: "x"}, {key: {a: 2, b: 1}, name: "y"}, {key: {a: 3}, name: "z"}];
+    KeyedName[] rhs = [{key: {b: 2, a: 1}, name: "p"}, {key: {a: 2, b: 1}, name: "q"}, {key: {b: 2, a: 1}, name: "r"}];
+
+    string[] joined =
+       from var l in lhs
+       join var r in rhs
+       on l.key equals r.key
+       select l.name + r.name;
+
+    DeptPerson[] outerJoined =
+       from var l in lhs
+       outer join KeyedName r in rhs
+       on l.key equals r.key
+       select {
+           fname : l.name,
+           lname : "",
+           dept : r.name
+       };
+
+    boolean testPassed = joined == ["xp", "xr", "yq"];
+    testPassed = testPassed && outerJoined.length() == 4;
+    testPassed = testPassed && outerJoined[0].fname == "x" && outerJoined[0].dept == "p";
+    testPassed = testPassed && outerJoined[1].fname == "x" && outerJoined[1].dept == "r";
+    testPassed = testPassed && outerJoined[2].fname == "y" && outerJoined[2].dept == "q";
+    testPassed = testPassed && outerJoined[3].fname == "z" && outerJoined[3].dept is ();
+    return testPassed;
+}
@@ -502,3 +502,59 @@ function incrementCount(int i) returns int {
     int count = i + 2;
     return count;
 }
+
+type Score record {|
+    string name;
+    int? points;
+|};
+
+function testQueryExprWithOrderByAndLimitClauses() returns boolean {
+    Score[] scores = [];
+    int i = 0;
+    while (i < 100) {
+        scores.push({name: "player" + i.toString(), points: i % 10 == 0 ? () : (i * 37) % 50});
+        i += 1;
+    }
+
+    Score[] orderedScores = from var s in scores
+        order by s.points descending
+        select s;
+    int count = 20;
+    Score[] topScores = from var s in scores
+        order by s.points descending
+        limit count
+        select s;
+
+    boolean testPassed = orderedScores.length() == 100 && topScores.length() == 20;
+    // Scores with the same points keep their input order.
+    testPassed = testPassed && topScores == orderedScores.slice(0, 20);
+
+    Score[] lowestScores = from var s in scores
+        order by s.points ascending, s.name descending
+        limit 95
+        select s;
+    testPassed = testPassed && lowestScores.length() == 95;
+    i = 1;
+    while (i < 90) {
+        int? previous = lowestScores[i - 1].points;
+        int? current = lowestScores[i].points;
+        if (previous is () || current is () || previous > current ||
+                (previous == current && lowestScores[i - 1].name < lowestScores[i].name)) {
+            return false;
+        }
+        i += 1;
+    }
+    // () is ordered last.
+    while (i < 95) {
+        testPassed = testPassed && lowestScores[i].points is ();
+        i += 1;
+    }
+
+    Score[] allScores = from var s in scores
+        order by s.name ascending
+        limit 200
+        select s;
+    testPassed = testPassed && allScores.length() == 100 && allScores[0].name == "player0" &&
+        allScores[99].name == "player99";
+    return testPassed;
+}
@@ -0,0 +1,112 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Employee record {|
+    readonly int id;
+    string name;
+    int salary;
+|};
+
+int[] moduleLevelValues = from var i in 1 ... 3 select i * 2;
+
+function testLoopOverCollections() {
+    int[] numbers = [1, 2, 3, 4];
+    int[] doubled = from var n in numbers select n * 2;
+    assertEquality([2, 4, 6, 8], doubled);
+
+    [int, string] tuple = [1, "a"];
+    string[] tupleMembers = from var m in tuple select m.toString();
+    assertEquality(["1", "a"], tupleMembers);
+
+    map<int> scores = {a: 10, b: 20, c: 30};
+    int[] highScores = from var s in scores where s > 10 select s;
+    assertEquality([20, 30], highScores);
+
+    table<Employee> key(id) employees = table [
+        {id: 1, name: "Anne", salary: 100},
+        {id: 2, name: "Bob", salary: 200}
+    ];
+    string[] names = from var {name} in employees select name;
+    assertEquality(["Anne", "Bob"], names);
+
+    int[] squares = from int i in 1 ..< 5 select i * i;
+    assertEquality([1, 4, 9, 16], squares);
+
+    string[] chars = from var c in "abc" select c + c;
+    assertEquality(["aa", "bb", "cc"], chars);
+
+    int[] empty = from var n in numbers where n > 10 select n;
+    assertEquality([], empty);
+
+    assertEquality([2, 4, 6], moduleLevelValues);
+}
+
+function testLetAndWhereClauses() {
+    (int|string)[] values = [1, "two", 3, "four", 5];
+    int[] result = from var v in values
+                   where v is int
+                   let int doubled = v * 2, int tripled = v * 3
+                   where doubled > 2
+                   select doubled + tripled;
+    assertEquality([15, 25], result);
+
+    Employee[] employees = [{id: 1, name: "Anne", salary: 100}, {id: 2, name: "Bob", salary: 200}];
+    string[] raised = from var {name, salary} in employees
+                      let int newSalary = salary + 50
+                      select name + ":" + newSalary.toString();
+    assertEquality(["Anne:150", "Bob:250"], raised);
+}
+
+function testNestedQueriesAndClosures() {
+    int[] outer = [1, 2, 3];
+    int[] inner = [1, 2, 3, 4];
+    int[][] pairs = from var o in outer
+                    select from var i in inner
+                           where i > o
+                           select i * o;
+    assertEquality([[2, 3, 4], [6, 8], [12]], pairs);
+
+    (function () returns int)[] functions = from var o in outer
+                                             select function () returns int {
+                                                 return o * 10;
+                                             };
+    int[] results = from var f in functions select f();
+    assertEquality([10, 20, 30], results);
+}
+
+function testCheckInSelect() {
+    int[]|error valid = parseAll(["1", "2"]);
+    assertEquality([1, 2], <anydata> checkpanic valid);
+
+    int[]|error invalid = parseAll(["1", "two"]);
+    assertEquality(true, invalid is error);
+}
+
+function parseAll(string[] values) returns int[]|error {
+    int[] parsed = from var v in values select check int:fromString(v);
+    return parsed;
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
@@ -0,0 +1,163 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Order record {|
+    readonly int id;
+    readonly string customerId;
+    readonly int amount;
+    readonly float price;
+    string status;
+|};
+
+type OrderTable table<Order> key(id);
+
+const CUSTOMER_B = "B";
+
+function createOrders() returns OrderTable {
+    OrderTable orders = table [];
+    int i = 0;
+    while (i < 20) {
+        string customerId = i % 3 == 0 ? "A" : i % 3 == 1 ? "B" : "C";
+        orders.add({id: i, customerId: customerId, amount: i * 10, price: <float> i / 2.0, status: "open"});
+        i += 1;
+    }
+    return orders;
+}
+
+function getIds(Order[] orders) returns int[] {
+    return from var o in orders select o.id;
+}
+
+function findOrdersOfCustomer(OrderTable orders, string customerId) returns Order[] {
+    return from var o in orders
+           where o.customerId == customerId
+           select o;
+}
+
+function testEqualityOnReadonlyField() {
+    OrderTable orders = createOrders();
+
+    assertEquality([0, 3, 6, 9, 12, 15, 18], getIds(findOrdersOfCustomer(orders, "A")));
+
+    Order[] ordersOfB = from var o in orders
+                        where CUSTOMER_B == o.customerId && o.status == "open"
+                        select o;
+    assertEquality([1, 4, 7, 10, 13, 16, 19], getIds(ordersOfB));
+
+    int[] ids = from var o in orders
+                where o.customerId == "C" && o.id > 10
+                select o.id;
+    assertEquality([11, 14, 17], ids);
+
+    assertEquality([], getIds(findOrdersOfCustomer(orders, "D")));
+}
+
+function testEqualityAfterTableUpdates() {
+    OrderTable orders = createOrders();
+    assertEquality([0, 3, 6, 9, 12, 15, 18], getIds(findOrdersOfCustomer(orders, "A")));
+
+    _ = orders.remove(3);
+    orders.put({id: 6, customerId: "B", amount: 0, price: 0, status: "open"});
+    orders.put({id: 1, customerId: "A", amount: 0, price: 0, status: "open"});
+    orders.add({id: 20, customerId: "A", amount: 0, price: 0, status: "open"});
+    assertEquality([0, 1, 9, 12, 15, 18, 20], getIds(findOrdersOfCustomer(orders, "A")));
+    assertEquality([4, 6, 7, 10, 13, 16, 19], getIds(findOrdersOfCustomer(orders, "B")));
+
+    orders.removeAll();
+    assertEquality([], getIds(findOrdersOfCustomer(orders, "A")));
+    orders.add({id: 1, customerId: "A", amount: 0, price: 0, status: "open"});
+    assertEquality([1], getIds(findOrdersOfCustomer(orders, "A")));
+}
+
+function testRangeOnReadonlyField() {
+    OrderTable orders = createOrders();
+    final int lowerBound = 50;
+
+    int[] ids = from var o in orders
+                where o.amount >= lowerBound && o.amount < 100
+                select o.id;
+    assertEquality([5, 6, 7, 8, 9], ids);
+
+    ids = from var o in orders
+          where 150 < o.amount
+          select o.id;
+    assertEquality([16, 17, 18, 19], ids);
+
+    ids = from var o in orders
+          where o.amount <= 20 && o.customerId != "A"
+          select o.id;
+    assertEquality([1, 2], ids);
+
+    ids = from var o in orders
+          where o.amount > 100 && o.amount < 50
+          select o.id;
+    assertEquality([], ids);
+
+    orders.add({id: 20, customerId: "A", amount: 0, price: float:NaN, status: "open"});
+    ids = from var o in orders
+          where o.price >= 8.5
+          select o.id;
+    assertEquality([17, 18, 19], ids);
+
+    ids = from var o in orders
+          where o.price < 1.0
+          select o.id;
+    assertEquality([0, 1], ids);
+}
+
+function testMutableAndNonInvariantComparisons() {
+    OrderTable orders = createOrders();
+
+    foreach Order o in orders {
+        if (o.id % 2 == 0) {
+            o.status = "closed";
+        }
+    }
+    int[] ids = from var o in orders
+                where o.status == "closed" && o.id < 7
+                select o.id;
+    assertEquality([0, 2, 4, 6], ids);
+
+    string customerId = "C";
+    ids = from var o in orders
+          where o.customerId == customerId && o.amount < 100
+          select o.id;
+    assertEquality([2, 5, 8], ids);
+}
+
+function testEqualityOnReadonlyTable() {
+    table<record {| readonly int id; string customerId; |}> key(id) & readonly orders = table [
+        {id: 1, customerId: "A"},
+        {id: 2, customerId: "B"},
+        {id: 3, customerId: "A"}
+    ];
+
+    int[] ids = from var o in orders
+                where o.customerId == "A"
+                select o.id;
+    assertEquality([1, 3], ids);
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
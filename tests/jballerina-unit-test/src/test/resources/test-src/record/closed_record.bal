@@ -380,3 +380,62 @@ function removeIfHasKeyRest() {
          panic error("Returned value should be nil.");
     }
 }
+
+type Coordinate record {|
+    int x;
+    int y;
+    string label?;
+    int|string? tag = ();
+|};
+
+type Position record {|
+    int x;
+    int y;
+    string label?;
+    int|string? tag = ();
+|};
+
+function testFieldAccessWithConstantKeys() {
+    Coordinate c = {x: 1, y: 2};
+    int sum = 0;
+    foreach int i in 0 ..< 10 {
+        c.x = c.x + i;
+        c["y"] = c.y * 2;
+        sum += c.x;
+    }
+    if !(c.x == 46 && c.y == 2048 && sum == 175) {
+        panic error("Unexpected field values: " + c.toString());
+    }
+
+    if !(c?.label is ()) {
+        panic error("Absent optional field should read as nil.");
+    }
+    c.label = "origin";
+    if (c?.label != "origin" || c["label"] != "origin") {
+        panic error("Optional field should be present after assignment.");
+    }
+
+    c.tag = 5;
+    int|string? tag = c.tag;
+    c.tag = "five";
+    if !(tag == 5 && c.tag == "five") {
+        panic error("Union typed field not updated.");
+    }
+
+    // a value of a structurally equivalent record type must still be accessible through the map path
+    Position p = {x: 3, y: 4, label: "p"};
+    Coordinate q = p;
+    q.x = 30;
+    if !(q.x == 30 && p.x == 30 && q?.label == "p") {
+        panic error("Structurally equivalent record not updated.");
+    }
+}
+
+function testFieldUpdateOfFrozenRecordWithConstantKey() {
+    Coordinate c = {x: 1, y: 2};
+    Coordinate frozen = <Coordinate> c.cloneReadOnly();
+    if (frozen.x != 1) {
+        panic error("Unexpected value read from frozen record.");
+    }
+    frozen.x = 10;
+}
@@ -460,6 +460,116 @@ function testUnionConstrainedTableIteration() {
     assertEquality(expectedNames, names);
 }
 
+function testKeysWithSameHash() {
+    // 0 and 4294967297 have the same hash code
+    EmployeeTable tab = table [
+      {id: 0, name: "John", salary: 300.50},
+      {id: 4294967297, name: "Bella", salary: 500.50}
+    ];
+
+    assertEquality(2, tab.length());
+    assertEquality("John", tab[0]["name"]);
+    assertEquality("Bella", tab[4294967297]["name"]);
+
+    Employee removed = tab.remove(0);
+    assertEquality("John", removed.name);
+    assertEquality(false, tab.hasKey(0));
+    assertEquality(true, tab.hasKey(4294967297));
+}
+
+function testTableOrderAfterRemovals() {
+    EmployeeTable tab = table [];
+    int i = 0;
+    while (i < 100) {
+        tab.add({id: i, name: "Name" + i.toString(), salary: 100});
+        i += 1;
+    }
+
+    i = 0;
+    while (i < 100) {
+        _ = tab.remove(i);
+        i += 3;
+    }
+    tab.put({id: 1, name: "Updated", salary: 200});
+    tab.add({id: 0, name: "Readded", salary: 100});
+
+    int[] expectedIds = [];
+    i = 1;
+    while (i < 100) {
+        if (i % 3 != 0) {
+            expectedIds.push(i);
+        }
+        i += 1;
+    }
+    expectedIds.push(0);
+
+    int[] ids = from var employee in tab select employee.id;
+    assertEquality(expectedIds, ids);
+    assertEquality("Updated", tab.get(1).name);
+    assertEquality(expectedIds, tab.keys());
+}
+
+function testReaddRowsAfterRemovals() {
+    EmployeeTable tab = table [];
+    int round = 0;
+    while (round < 5) {
+        // Removed rows leave deleted entries in the key index, which fill it up until it is rebuilt on an add.
+        int i = 0;
+        while (i < 40) {
+            tab.add({id: i, name: "Name" + i.toString(), salary: 100});
+            i += 1;
+        }
+        i = 0;
+        while (i < 40) {
+            if (i % 4 != 0) {
+                _ = tab.remove(i);
+            }
+            i += 1;
+        }
+        i = 0;
+        while (i < 40) {
+            assertEquality(i % 4 == 0, tab.hasKey(i));
+            if (i % 4 == 0) {
+                _ = tab.remove(i);
+            }
+            i += 1;
+        }
+        assertEquality(0, tab.length());
+        round += 1;
+    }
+
+    tab.add({id: 7, name: "Readded", salary: 200});
+    assertEquality(1, tab.length());
+    assertEquality("Readded", tab.get(7).name);
+    _ = tab.remove(7);
+    assertEquality(false, tab.hasKey(7));
+    assertEquality(0, tab.length());
+}
+
+type Bar record {
+    readonly map<int> m;
+    int age;
+};
+
+function testMemberStoreWithDifferentKeyOfSameHash() {
+    table<Bar> key(m) tab = table [{ m: {"a": 1, "b": 2}, age: 31 }];
+
+    // {"a": 1, "b": 2} and {"a": 2, "b": 1} have the same hash code
+    error? result = trap storeWithDifferentKey(tab);
+    assertEquality(true, result is error);
+    assertEquality(1, tab.length());
+    Bar? bar = tab[{"a": 1, "b": 2}];
+    if bar is Bar {
+        assertEquality(31, bar.age);
+    } else {
+        panic error(ASSERTION_ERROR_REASON, message = "expected the row to be unchanged");
+    }
+}
+
+function storeWithDifferentKey(table<Bar> key(m) tab) {
+    tab[{"a": 1, "b": 2}] = { m: {"a": 2, "b": 1}, age: 34 };
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertTrue(any|error actual) {